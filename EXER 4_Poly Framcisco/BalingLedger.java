@@ -0,0 +1,240 @@
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.StampedLock;
+
+public class BalingLedger {
+    // * STRIPING: each thread records into its own stripe, so sorters rarely share a lock *
+    // Works like LongAdder/DoubleAdder cells, but a stripe holds whole per-material and
+    // per-personnel rows, so one bale is always counted in all its rows together.
+    private static final int OPTIMISTIC_TRIES = 3;
+
+    private final Stripe[] stripes;
+    private final int mask;
+    private final Keys materials = new Keys();
+    private final Keys personnel = new Keys();
+
+    public BalingLedger() {
+        this(Math.max(16, Runtime.getRuntime().availableProcessors() * 4));
+    }
+
+    public BalingLedger(int stripeCount) {
+        int size = Integer.highestOneBit(Math.max(1, stripeCount - 1) << 1);
+        stripes = new Stripe[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new Stripe();
+        }
+        mask = size - 1;
+    }
+
+    public void record(String personnelName, String materialType, double weightKg) {
+        int material = materials.id(materialType);
+        int sorter = personnel.id(personnelName);
+        Stripe stripe = stripes[stripeIndex()];
+        long stamp = stripe.lock.writeLock();
+        try {
+            stripe.add(material, sorter, weightKg);
+        } finally {
+            stripe.lock.unlockWrite(stamp);
+        }
+    }
+
+    // * CONSISTENT SNAPSHOT: every stripe is copied under a stamped (seqlock-style) read *
+    // A copy only counts if no bale was recorded into that stripe while it was being read,
+    // otherwise it is retried, and after a few failed tries the stripe is read under its
+    // read lock. Sorters are never blocked by the optimistic reads. Each bale lives in one
+    // stripe, so the total always equals the sum of the material rows and of the personnel rows.
+    public Snapshot snapshot() {
+        long[] materialBales = new long[0];
+        double[] materialKg = new double[0];
+        long[] personnelBales = new long[0];
+        double[] personnelKg = new double[0];
+        for (Stripe stripe : stripes) {
+            Rows copy = stripe.copy();
+            materialBales = addInto(materialBales, copy.materialBales);
+            materialKg = addInto(materialKg, copy.materialKg);
+            personnelBales = addInto(personnelBales, copy.personnelBales);
+            personnelKg = addInto(personnelKg, copy.personnelKg);
+        }
+        // Names are read after the counts: any id already counted has its name registered
+        long bales = 0;
+        double kg = 0;
+        Snapshot snapshot = new Snapshot();
+        String[] materialNames = materials.names;
+        for (int id = 0; id < materialBales.length; id++) {
+            if (materialBales[id] > 0) {
+                snapshot.byMaterial.put(materialNames[id], new Tally(materialBales[id], materialKg[id]));
+                bales += materialBales[id];
+                kg += materialKg[id];
+            }
+        }
+        String[] personnelNames = personnel.names;
+        for (int id = 0; id < personnelBales.length; id++) {
+            if (personnelBales[id] > 0) {
+                snapshot.byPersonnel.put(personnelNames[id], new Tally(personnelBales[id], personnelKg[id]));
+            }
+        }
+        snapshot.total = new Tally(bales, kg);
+        return snapshot;
+    }
+
+    private int stripeIndex() {
+        long id = Thread.currentThread().getId();
+        int h = (int) (id ^ (id >>> 32)) * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    private static long[] addInto(long[] sum, long[] part) {
+        long[] result = sum.length >= part.length ? sum : Arrays.copyOf(sum, part.length);
+        for (int i = 0; i < part.length; i++) {
+            result[i] += part[i];
+        }
+        return result;
+    }
+
+    private static double[] addInto(double[] sum, double[] part) {
+        double[] result = sum.length >= part.length ? sum : Arrays.copyOf(sum, part.length);
+        for (int i = 0; i < part.length; i++) {
+            result[i] += part[i];
+        }
+        return result;
+    }
+
+    // * Dense ids for material and personnel names, so stripes can count in plain arrays *
+    private static class Keys {
+        private final ConcurrentHashMap<String, Integer> ids = new ConcurrentHashMap<>();
+        private volatile String[] names = new String[8];
+        private int count;
+
+        int id(String name) {
+            Integer id = ids.get(name);
+            return id != null ? id : register(name);
+        }
+
+        private synchronized int register(String name) {
+            Integer id = ids.get(name);
+            if (id != null) {
+                return id;
+            }
+            String[] grown = count < names.length ? names : Arrays.copyOf(names, count * 2);
+            grown[count] = name;
+            names = grown;
+            ids.put(name, count);
+            return count++;
+        }
+    }
+
+    // Bale count and weight per material id and per personnel id
+    private static class Rows {
+        long[] materialBales;
+        double[] materialKg;
+        long[] personnelBales;
+        double[] personnelKg;
+    }
+
+    private static class Stripe extends Rows {
+        final StampedLock lock = new StampedLock();
+        // Padding keeps neighbouring stripes off the same cache line
+        long p1, p2, p3, p4, p5, p6, p7;
+
+        Stripe() {
+            materialBales = new long[8];
+            materialKg = new double[8];
+            personnelBales = new long[8];
+            personnelKg = new double[8];
+        }
+
+        void add(int material, int sorter, double weightKg) {
+            if (material >= materialBales.length) {
+                int size = Math.max(material + 1, materialBales.length * 2);
+                materialBales = Arrays.copyOf(materialBales, size);
+                materialKg = Arrays.copyOf(materialKg, size);
+            }
+            if (sorter >= personnelBales.length) {
+                int size = Math.max(sorter + 1, personnelBales.length * 2);
+                personnelBales = Arrays.copyOf(personnelBales, size);
+                personnelKg = Arrays.copyOf(personnelKg, size);
+            }
+            materialBales[material]++;
+            materialKg[material] += weightKg;
+            personnelBales[sorter]++;
+            personnelKg[sorter] += weightKg;
+        }
+
+        Rows copy() {
+            for (int attempt = 0; attempt < OPTIMISTIC_TRIES; attempt++) {
+                long stamp = lock.tryOptimisticRead();
+                if (stamp != 0) {
+                    Rows copy = copyFields();
+                    if (lock.validate(stamp)) {
+                        return copy;
+                    }
+                }
+            }
+            long stamp = lock.readLock();
+            try {
+                return copyFields();
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        // Array fields are read once each, so a racing grow cannot mix two array sizes
+        private Rows copyFields() {
+            Rows copy = new Rows();
+            long[] mb = materialBales;
+            double[] mk = materialKg;
+            long[] pb = personnelBales;
+            double[] pk = personnelKg;
+            copy.materialBales = Arrays.copyOf(mb, Math.min(mb.length, mk.length));
+            copy.materialKg = Arrays.copyOf(mk, copy.materialBales.length);
+            copy.personnelBales = Arrays.copyOf(pb, Math.min(pb.length, pk.length));
+            copy.personnelKg = Arrays.copyOf(pk, copy.personnelBales.length);
+            return copy;
+        }
+    }
+
+    public static class Tally {
+        private final long bales;
+        private final double weightKg;
+
+        Tally(long bales, double weightKg) {
+            this.bales = bales;
+            this.weightKg = weightKg;
+        }
+
+        public long getBales() {
+            return bales;
+        }
+        public double getWeight() {
+            return weightKg;
+        }
+
+        @Override
+        public String toString() {
+            return bales + " bale(s), " + weightKg + " kg";
+        }
+    }
+
+    // * Read-only view of the ledger, for the inventory dashboard *
+    public static class Snapshot {
+        private final HashMap<String, Tally> byMaterial = new HashMap<>();
+        private final HashMap<String, Tally> byPersonnel = new HashMap<>();
+        private Tally total;
+
+        private Snapshot() {
+        }
+
+        public Map<String, Tally> getByMaterial() {
+            return Collections.unmodifiableMap(byMaterial);
+        }
+        public Map<String, Tally> getByPersonnel() {
+            return Collections.unmodifiableMap(byPersonnel);
+        }
+        public Tally getTotal() {
+            return total;
+        }
+    }
+}
@@ -10,4 +10,9 @@ public class BiodegradableWaste extends WasteItem {
                             + getDescription() + " (" + getWeight() + " kg).");
         System.out.println("   * Result: Directed to the Composting area to create organic fertilizer.");
     }
+
+    @Override
+    public MRFStation getStation() {
+        return MRFStation.COMPOSTING;
+    }
 }
\ No newline at end of file
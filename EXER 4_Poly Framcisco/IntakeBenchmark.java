@@ -0,0 +1,135 @@
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Random;
+
+public class IntakeBenchmark {
+    public static void main(String[] args) {
+        int itemCount = args.length > 0 ? Integer.parseInt(args[0]) : 2_000_000;
+        int rounds = 5;
+
+        ArrayList<WasteItem> intake = generateIntake(itemCount, 42);
+        System.out.println("--- MRF Intake Benchmark (" + itemCount + " items, "
+                            + Runtime.getRuntime().availableProcessors() + " cores) ---");
+
+        // =================================================================
+        // 1. Current sequential loop (console output discarded)
+        // =================================================================
+        PrintStream console = System.out;
+        PrintStream discard = new PrintStream(OutputStream.nullOutputStream());
+        long best = Long.MAX_VALUE;
+        for (int r = 0; r < rounds; r++) {
+            System.setOut(discard);
+            long start = System.nanoTime();
+            for (WasteItem item : intake) {
+                item.processAtMRF();
+            }
+            best = Math.min(best, System.nanoTime() - start);
+            System.setOut(console);
+        }
+        report("Sequential processAtMRF()", itemCount, best);
+
+        // =================================================================
+        // 2. Sequential tally (same result as the engine, one thread)
+        // =================================================================
+        Map<MRFStation, StationResult> expected = null;
+        best = Long.MAX_VALUE;
+        for (int r = 0; r < rounds; r++) {
+            long start = System.nanoTime();
+            expected = sequentialTally(intake);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        report("Sequential tally", itemCount, best);
+
+        // =================================================================
+        // 3. Parallel engine at increasing core counts
+        // =================================================================
+        for (int cores = 1; cores <= Runtime.getRuntime().availableProcessors(); cores *= 2) {
+            MRFIntakeEngine engine = new MRFIntakeEngine(cores);
+            Map<MRFStation, StationResult> results = null;
+            best = Long.MAX_VALUE;
+            for (int r = 0; r < rounds; r++) {
+                long start = System.nanoTime();
+                results = engine.process(intake);
+                best = Math.min(best, System.nanoTime() - start);
+            }
+            engine.shutdown();
+            report("MRFIntakeEngine x" + cores, itemCount, best);
+            checkSame(expected, results);
+        }
+
+        // Same engine fed a LinkedList: the intake is only walked by iterator, never indexed
+        LinkedList<WasteItem> linked = new LinkedList<>(intake);
+        MRFIntakeEngine engine = new MRFIntakeEngine();
+        best = Long.MAX_VALUE;
+        for (int r = 0; r < rounds; r++) {
+            long start = System.nanoTime();
+            checkSame(expected, engine.process(linked));
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        engine.shutdown();
+        report("MRFIntakeEngine (LinkedList)", itemCount, best);
+
+        System.out.println();
+        for (StationResult result : expected.values()) {
+            System.out.println(result);
+        }
+
+        // =================================================================
+        // 4. Memory footprint of the same intake as a columnar store
+        // =================================================================
+        WasteItemStore store = new WasteItemStore(itemCount);
+        store.addAll(intake);
+        System.out.println();
+        System.out.println(store.memoryReport());
+    }
+
+    static ArrayList<WasteItem> generateIntake(int count, long seed) {
+        Random random = new Random(seed);
+        ArrayList<WasteItem> intake = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            double weight = Math.round(random.nextDouble() * 100) / 10.0;
+            switch (random.nextInt(3)) {
+                case 0:
+                    intake.add(new BiodegradableWaste("Food scraps", weight));
+                    break;
+                case 1:
+                    intake.add(new RecyclableWaste("PET Bottles", weight, "PET (#1)"));
+                    break;
+                default:
+                    intake.add(new ResidualWaste("Sachets", weight));
+                    break;
+            }
+        }
+        return intake;
+    }
+
+    private static Map<MRFStation, StationResult> sequentialTally(ArrayList<WasteItem> intake) {
+        Map<MRFStation, StationResult> results = new EnumMap<>(MRFStation.class);
+        for (MRFStation station : MRFStation.values()) {
+            results.put(station, new StationResult(station));
+        }
+        for (WasteItem item : intake) {
+            results.get(item.getStation()).add(item.getWeight());
+        }
+        return results;
+    }
+
+    private static void checkSame(Map<MRFStation, StationResult> expected, Map<MRFStation, StationResult> actual) {
+        for (MRFStation station : MRFStation.values()) {
+            StationResult e = expected.get(station);
+            StationResult a = actual.get(station);
+            if (e.getItemCount() != a.getItemCount()
+                    || Math.abs(e.getTotalWeight() - a.getTotalWeight()) > 1e-6 * e.getTotalWeight()) {
+                throw new IllegalStateException("Mismatch at " + station + ": " + e + " vs " + a);
+            }
+        }
+    }
+
+    private static void report(String label, int items, long nanos) {
+        System.out.printf("%-28s %8.1f ms  %10.0f items/s%n", label, nanos / 1e6, items / (nanos / 1e9));
+    }
+}
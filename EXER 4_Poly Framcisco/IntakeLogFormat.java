@@ -0,0 +1,31 @@
+// * Fixed-width binary layout shared by IntakeLogWriter and IntakeLogReader *
+//
+// File header (8 bytes): magic "MRF2" (int), record size (int)
+// Record (16 bytes, big-endian):
+//   [0..7]   weight in kg (double)
+//   [8..11]  description id (int, index into the description dictionary, -1 if none)
+//   [12..13] material code (short, index into the material dictionary, -1 if none)
+//   [14]     type tag (byte, MRFStation ordinal)
+//   [15]     reserved
+// Sidecar .dict file: entries of (kind byte, UTF string). Descriptions and materials are
+// numbered separately, in the order their entries appear.
+public final class IntakeLogFormat {
+    public static final int MAGIC = 0x4D524632; // "MRF2"
+    public static final int HEADER_SIZE = 8;
+    public static final int RECORD_SIZE = 16;
+    public static final short NO_MATERIAL = -1;
+    public static final int MAX_MATERIALS = Short.MAX_VALUE + 1;
+
+    public static final byte DESCRIPTION_ENTRY = 0;
+    public static final byte MATERIAL_ENTRY = 1;
+
+    public static final int WEIGHT_OFFSET = 0;
+    public static final int DESCRIPTION_OFFSET = 8;
+    public static final int MATERIAL_OFFSET = 12;
+    public static final int TYPE_OFFSET = 14;
+
+    public static final String DICTIONARY_SUFFIX = ".dict";
+
+    private IntakeLogFormat() {
+    }
+}
@@ -0,0 +1,113 @@
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.function.Consumer;
+
+public class IntakeLogReader implements AutoCloseable {
+    private static final MRFStation[] STATIONS = MRFStation.values();
+
+    // A single MappedByteBuffer is limited to 2 GB, so larger logs are mapped in segments
+    private static final long DEFAULT_SEGMENT_BYTES = (Integer.MAX_VALUE / IntakeLogFormat.RECORD_SIZE) * (long) IntakeLogFormat.RECORD_SIZE;
+
+    private final FileChannel channel;
+    private final long recordCount;
+    private final long segmentBytes;
+    private final ArrayList<String> descriptions = new ArrayList<>();
+    private final ArrayList<String> materials = new ArrayList<>();
+
+    public IntakeLogReader(String path) throws IOException {
+        this(path, DEFAULT_SEGMENT_BYTES);
+    }
+
+    public IntakeLogReader(String path, long segmentBytes) throws IOException {
+        if (segmentBytes < IntakeLogFormat.RECORD_SIZE || segmentBytes > DEFAULT_SEGMENT_BYTES) {
+            throw new IllegalArgumentException("Segment size must be between one record and 2 GB.");
+        }
+        this.segmentBytes = segmentBytes - segmentBytes % IntakeLogFormat.RECORD_SIZE;
+        this.channel = FileChannel.open(Paths.get(path), StandardOpenOption.READ);
+        if (channel.size() < IntakeLogFormat.HEADER_SIZE) {
+            channel.close();
+            throw new IOException(path + " is too short to be an MRF intake log (" + IntakeLogFormat.HEADER_SIZE + "-byte header missing).");
+        }
+
+        MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, IntakeLogFormat.HEADER_SIZE);
+        if (header.getInt() != IntakeLogFormat.MAGIC || header.getInt() != IntakeLogFormat.RECORD_SIZE) {
+            channel.close();
+            throw new IOException(path + " is not an MRF intake log.");
+        }
+        // Ignore a trailing partial record left by an interrupted writer
+        this.recordCount = (channel.size() - IntakeLogFormat.HEADER_SIZE) / IntakeLogFormat.RECORD_SIZE;
+
+        String dictionaryPath = path + IntakeLogFormat.DICTIONARY_SUFFIX;
+        if (Files.exists(Paths.get(dictionaryPath))) {
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(dictionaryPath)))) {
+                while (true) {
+                    (in.readByte() == IntakeLogFormat.MATERIAL_ENTRY ? materials : descriptions).add(in.readUTF());
+                }
+            } catch (EOFException endOfDictionary) {
+                // all entries loaded
+            }
+        }
+    }
+
+    public long getRecordCount() {
+        return recordCount;
+    }
+
+    public String lookupDescription(int id) {
+        return id < 0 ? null : descriptions.get(id);
+    }
+
+    public String lookupMaterial(int id) {
+        return id < 0 ? null : materials.get(id);
+    }
+
+    // * Replays every record straight from the mapped file, one segment at a time *
+    public void replay(IntakeRecordHandler handler) throws IOException {
+        long dataBytes = recordCount * IntakeLogFormat.RECORD_SIZE;
+        for (long offset = 0; offset < dataBytes; offset += segmentBytes) {
+            long length = Math.min(segmentBytes, dataBytes - offset);
+            MappedByteBuffer segment = channel.map(FileChannel.MapMode.READ_ONLY, IntakeLogFormat.HEADER_SIZE + offset, length);
+            for (int pos = 0; pos < length; pos += IntakeLogFormat.RECORD_SIZE) {
+                handler.onRecord(STATIONS[segment.get(pos + IntakeLogFormat.TYPE_OFFSET)],
+                                 segment.getDouble(pos + IntakeLogFormat.WEIGHT_OFFSET),
+                                 segment.getInt(pos + IntakeLogFormat.DESCRIPTION_OFFSET),
+                                 segment.getShort(pos + IntakeLogFormat.MATERIAL_OFFSET));
+            }
+        }
+    }
+
+    // * Feeds the processAtMRF pipeline: fills the sink and hands it to the consumer whenever it is full *
+    public void replay(RoutingSink sink, Consumer<RoutingSink> onFull) throws IOException {
+        replay((station, weightKg, descriptionId, materialId) -> {
+            if (sink.isFull()) {
+                onFull.accept(sink);
+                sink.clear();
+            }
+            sink.record(station, weightKg, lookupDescription(descriptionId), lookupMaterial(materialId));
+        });
+        if (sink.size() > 0) {
+            onFull.accept(sink);
+            sink.clear();
+        }
+    }
+
+    // Loads the whole log into a columnar store
+    public void readInto(WasteItemStore store) throws IOException {
+        replay((station, weightKg, descriptionId, materialId) ->
+            store.add(station, lookupDescription(descriptionId), weightKg, lookupMaterial(materialId)));
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
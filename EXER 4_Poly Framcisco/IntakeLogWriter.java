@@ -0,0 +1,163 @@
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+
+public class IntakeLogWriter implements AutoCloseable {
+    private static final int BATCH_RECORDS = 4096;
+
+    private final FileChannel channel;
+    private final ByteBuffer batch = ByteBuffer.allocateDirect(BATCH_RECORDS * IntakeLogFormat.RECORD_SIZE);
+    private final HashMap<String, Integer> descriptionIds = new HashMap<>();
+    private final HashMap<String, Integer> materialIds = new HashMap<>();
+    private final DataOutputStream dictionaryOut;
+
+    // * Opens the log for appending; creates it (with header) if it does not exist yet *
+    // An existing log must have the MRF2 header and whole records, and its dictionary must
+    // name every id the records use; otherwise new ids would clash with the old ones.
+    public IntakeLogWriter(String path) throws IOException {
+        Path logPath = Paths.get(path);
+        Path dictionaryPath = Paths.get(path + IntakeLogFormat.DICTIONARY_SUFFIX);
+        boolean isNew = !Files.exists(logPath) || Files.size(logPath) == 0;
+        if (!isNew) {
+            checkExistingLog(logPath, dictionaryPath);
+        }
+
+        channel = FileChannel.open(logPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        if (isNew) {
+            ByteBuffer header = ByteBuffer.allocate(IntakeLogFormat.HEADER_SIZE);
+            header.putInt(IntakeLogFormat.MAGIC).putInt(IntakeLogFormat.RECORD_SIZE).flip();
+            while (header.hasRemaining()) {
+                channel.write(header);
+            }
+            Files.deleteIfExists(dictionaryPath);
+        }
+        dictionaryOut = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(dictionaryPath.toString(), true)));
+    }
+
+    public void append(WasteItem item) throws IOException {
+        append(item.getStation(), item.getDescription(), item.getWeight(), item.getMaterial());
+    }
+
+    public void append(MRFStation station, String description, double weightKg, String material) throws IOException {
+        int descriptionId = description == null ? -1 : encode(descriptionIds, IntakeLogFormat.DESCRIPTION_ENTRY, description);
+        int materialId = IntakeLogFormat.NO_MATERIAL;
+        if (material != null) {
+            if (!materialIds.containsKey(material) && materialIds.size() == IntakeLogFormat.MAX_MATERIALS) {
+                throw new IOException("Too many distinct materials for the 16-bit material code.");
+            }
+            materialId = encode(materialIds, IntakeLogFormat.MATERIAL_ENTRY, material);
+        }
+        if (!batch.hasRemaining()) {
+            flushBatch();
+        }
+        batch.putDouble(weightKg);
+        batch.putInt(descriptionId);
+        batch.putShort((short) materialId);
+        batch.put((byte) station.ordinal());
+        batch.put((byte) 0);
+    }
+
+    // Writes buffered records; the dictionary is flushed first so every written id resolves
+    public void flush() throws IOException {
+        dictionaryOut.flush();
+        flushBatch();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+            channel.force(false);
+        } finally {
+            channel.close();
+            dictionaryOut.close();
+        }
+    }
+
+    private void flushBatch() throws IOException {
+        dictionaryOut.flush();
+        batch.flip();
+        while (batch.hasRemaining()) {
+            channel.write(batch);
+        }
+        batch.clear();
+    }
+
+    private int encode(HashMap<String, Integer> ids, byte kind, String value) throws IOException {
+        Integer id = ids.get(value);
+        if (id == null) {
+            id = ids.size();
+            ids.put(value, id);
+            dictionaryOut.writeByte(kind);
+            dictionaryOut.writeUTF(value);
+        }
+        return id;
+    }
+
+    private void checkExistingLog(Path logPath, Path dictionaryPath) throws IOException {
+        int maxDescription = -1;
+        int maxMaterial = -1;
+        try (FileChannel in = FileChannel.open(logPath, StandardOpenOption.READ)) {
+            long size = in.size();
+            ByteBuffer header = ByteBuffer.allocate(IntakeLogFormat.HEADER_SIZE);
+            while (header.hasRemaining() && in.read(header) >= 0) {
+                // keep reading until the header is complete or the file ends
+            }
+            header.flip();
+            if (header.remaining() < IntakeLogFormat.HEADER_SIZE
+                    || header.getInt() != IntakeLogFormat.MAGIC || header.getInt() != IntakeLogFormat.RECORD_SIZE) {
+                throw new IOException(logPath + " is not an MRF intake log.");
+            }
+            if ((size - IntakeLogFormat.HEADER_SIZE) % IntakeLogFormat.RECORD_SIZE != 0) {
+                throw new IOException("Intake log " + logPath + " ends with a partial record.");
+            }
+
+            // Highest dictionary ids the existing records refer to
+            ByteBuffer records = ByteBuffer.allocateDirect(BATCH_RECORDS * IntakeLogFormat.RECORD_SIZE);
+            while (in.read(records) >= 0 && records.position() > 0) {
+                records.flip();
+                int whole = records.limit() - records.limit() % IntakeLogFormat.RECORD_SIZE;
+                for (int pos = 0; pos < whole; pos += IntakeLogFormat.RECORD_SIZE) {
+                    maxDescription = Math.max(maxDescription, records.getInt(pos + IntakeLogFormat.DESCRIPTION_OFFSET));
+                    maxMaterial = Math.max(maxMaterial, records.getShort(pos + IntakeLogFormat.MATERIAL_OFFSET));
+                }
+                records.position(whole);
+                records.compact();
+            }
+        }
+
+        if (Files.exists(dictionaryPath)) {
+            loadDictionary(dictionaryPath.toString());
+        } else if (maxDescription >= 0 || maxMaterial >= 0) {
+            throw new IOException("Intake log " + logPath + " uses dictionary ids but " + dictionaryPath + " is missing.");
+        }
+        if (descriptionIds.size() <= maxDescription || materialIds.size() <= maxMaterial) {
+            throw new IOException("Dictionary " + dictionaryPath + " is shorter than the ids used by " + logPath
+                    + " (" + descriptionIds.size() + " descriptions for id " + maxDescription + ", "
+                    + materialIds.size() + " materials for id " + maxMaterial + ").");
+        }
+    }
+
+    private void loadDictionary(String dictionaryPath) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(dictionaryPath)))) {
+            while (true) {
+                HashMap<String, Integer> ids = in.readByte() == IntakeLogFormat.MATERIAL_ENTRY ? materialIds : descriptionIds;
+                ids.put(in.readUTF(), ids.size());
+            }
+        } catch (EOFException endOfDictionary) {
+            // all entries loaded
+        }
+    }
+}
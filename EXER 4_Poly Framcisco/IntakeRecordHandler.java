@@ -0,0 +1,4 @@
+// Receives replayed records as primitives, so no object is created per record
+public interface IntakeRecordHandler {
+    void onRecord(MRFStation station, double weightKg, int descriptionId, int materialId);
+}
@@ -0,0 +1,108 @@
+import java.util.HashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class LedgerBenchmark {
+    private static final String[] MATERIALS = {"PET", "HDPE", "Cardboard", "Aluminum", "Glass", "Mixed"};
+
+    public static void main(String[] args) throws InterruptedException {
+        int recordsPerThread = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+        int[] threadCounts = {1, 8, 64};
+
+        System.out.println("--- Baling Ledger Contention Benchmark (" + recordsPerThread + " bales per thread) ---");
+        for (int threads : threadCounts) {
+            // Baseline: one global lock around a shared map
+            GlobalLockLedger global = new GlobalLockLedger();
+            long nanos = run(threads, recordsPerThread, global::record);
+            report("synchronized ledger", threads, threads * (long) recordsPerThread, nanos);
+
+            BalingLedger ledger = new BalingLedger();
+            nanos = run(threads, recordsPerThread, (personnel, material, kg) -> {
+                ledger.record(personnel, material, kg);
+            });
+            report("BalingLedger", threads, threads * (long) recordsPerThread, nanos);
+
+            // Same load with the dashboard taking snapshots the whole time
+            BalingLedger watched = new BalingLedger();
+            AtomicBoolean running = new AtomicBoolean(true);
+            int[] snapshots = new int[1];
+            Thread dashboard = new Thread(() -> {
+                while (running.get()) {
+                    checkConsistent(watched.snapshot());
+                    snapshots[0]++;
+                }
+            });
+            dashboard.start();
+            nanos = run(threads, recordsPerThread, watched::record);
+            running.set(false);
+            dashboard.join();
+            report("  + live snapshots", threads, threads * (long) recordsPerThread, nanos);
+            System.out.println("    " + snapshots[0] + " snapshots taken during intake, all consistent");
+
+            BalingLedger.Tally total = ledger.snapshot().getTotal();
+            if (total.getBales() != threads * (long) recordsPerThread) {
+                throw new IllegalStateException("Lost bales: " + total);
+            }
+        }
+    }
+
+    // Every bale is in the total, in exactly one material row and in exactly one personnel row
+    private static void checkConsistent(BalingLedger.Snapshot snapshot) {
+        long byMaterial = 0;
+        for (BalingLedger.Tally tally : snapshot.getByMaterial().values()) {
+            byMaterial += tally.getBales();
+        }
+        long byPersonnel = 0;
+        for (BalingLedger.Tally tally : snapshot.getByPersonnel().values()) {
+            byPersonnel += tally.getBales();
+        }
+        long total = snapshot.getTotal().getBales();
+        if (byMaterial != total || byPersonnel != total) {
+            throw new IllegalStateException("Inconsistent snapshot: total " + total
+                    + ", by material " + byMaterial + ", by personnel " + byPersonnel);
+        }
+    }
+
+    interface Recorder {
+        void record(String personnel, String materialType, double weightKg);
+    }
+
+    private static long run(int threads, int records, Recorder recorder) throws InterruptedException {
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            String personnel = "Sorter " + t;
+            new Thread(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < records; i++) {
+                        recorder.record(personnel, MATERIALS[i % MATERIALS.length], 1.5);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            }).start();
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        done.await();
+        return System.nanoTime() - begin;
+    }
+
+    private static void report(String label, int threads, long records, long nanos) {
+        System.out.printf("%-20s %3d thread(s) %8.1f ms  %12.0f bales/s%n",
+                          label, threads, nanos / 1e6, records / (nanos / 1e9));
+    }
+
+    private static class GlobalLockLedger {
+        private final HashMap<String, Double> byMaterial = new HashMap<>();
+        private final HashMap<String, Double> byPersonnel = new HashMap<>();
+
+        synchronized void record(String personnel, String materialType, double weightKg) {
+            byMaterial.merge(materialType, weightKg, Double::sum);
+            byPersonnel.merge(personnel, weightKg, Double::sum);
+        }
+    }
+}
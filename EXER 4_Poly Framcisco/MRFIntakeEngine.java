@@ -0,0 +1,111 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+public class MRFIntakeEngine {
+    // Below this many items a range is tallied directly instead of split further
+    private static final int BATCH_SIZE = 8192;
+    private static final MRFStation[] STATIONS = MRFStation.values();
+
+    private final ForkJoinPool pool;
+
+    public MRFIntakeEngine() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    public MRFIntakeEngine(int parallelism) {
+        this.pool = new ForkJoinPool(parallelism);
+    }
+
+    // * Processes the whole intake in parallel and returns one result per station *
+    // An indexed list (ArrayList, arrays) is split into ranges inside the fork/join tasks, and
+    // every range keeps its own per-station tally that is merged on the way back up. Any other
+    // collection is walked once with its iterator (so a LinkedList stays O(n)) and handed to
+    // the pool in batches as it is read.
+    public Map<MRFStation, StationResult> process(Collection<? extends WasteItem> intake) {
+        if (intake instanceof List && intake instanceof RandomAccess) {
+            List<? extends WasteItem> items = (List<? extends WasteItem>) intake;
+            return pool.invoke(new TallyTask(items, 0, items.size()));
+        }
+
+        List<ForkJoinTask<Map<MRFStation, StationResult>>> batches = new ArrayList<>();
+        WasteItem[] batch = new WasteItem[BATCH_SIZE];
+        int filled = 0;
+        for (WasteItem item : intake) {
+            batch[filled++] = item;
+            if (filled == BATCH_SIZE) {
+                batches.add(pool.submit(new TallyTask(Arrays.asList(batch), 0, filled)));
+                batch = new WasteItem[BATCH_SIZE];
+                filled = 0;
+            }
+        }
+        Map<MRFStation, StationResult> results = new TallyTask(Arrays.asList(batch), 0, filled).tally();
+        for (ForkJoinTask<Map<MRFStation, StationResult>> task : batches) {
+            merge(results, task.join());
+        }
+        return results;
+    }
+
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    private static void merge(Map<MRFStation, StationResult> into, Map<MRFStation, StationResult> other) {
+        for (MRFStation station : STATIONS) {
+            into.get(station).merge(other.get(station));
+        }
+    }
+
+    // * Tallies one index range of the intake, splitting it into batches *
+    private static class TallyTask extends RecursiveTask<Map<MRFStation, StationResult>> {
+        private static final long serialVersionUID = 1L;
+
+        private final List<? extends WasteItem> items;
+        private final int from;
+        private final int to;
+
+        TallyTask(List<? extends WasteItem> items, int from, int to) {
+            this.items = items;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Map<MRFStation, StationResult> compute() {
+            if (to - from <= BATCH_SIZE) {
+                return tally();
+            }
+
+            int mid = (from + to) >>> 1;
+            TallyTask left = new TallyTask(items, from, mid);
+            left.fork();
+            Map<MRFStation, StationResult> results = new TallyTask(items, mid, to).compute();
+            merge(results, left.join());
+            return results;
+        }
+
+        // Counts into plain arrays indexed by station, then wraps them in the per-task map
+        Map<MRFStation, StationResult> tally() {
+            long[] counts = new long[STATIONS.length];
+            double[] weights = new double[STATIONS.length];
+            for (int i = from; i < to; i++) {
+                WasteItem item = items.get(i);
+                int station = item.getStation().ordinal();
+                counts[station]++;
+                weights[station] += item.getWeight();
+            }
+            Map<MRFStation, StationResult> results = new EnumMap<>(MRFStation.class);
+            for (MRFStation station : STATIONS) {
+                results.put(station, new StationResult(station, counts[station.ordinal()], weights[station.ordinal()]));
+            }
+            return results;
+        }
+    }
+}
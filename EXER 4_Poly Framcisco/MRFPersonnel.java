@@ -1,10 +1,19 @@
 public class MRFPersonnel {
+    // Material recorded by sortWaste(double) when no type is given
+    public static final String MIXED = "Mixed";
+
     private String name;
+    private BalingLedger ledger; // optional shared inventory ledger
 
     public MRFPersonnel(String name) {
         this.name = name;
     }
 
+    public MRFPersonnel(String name, BalingLedger ledger) {
+        this.name = name;
+        this.ledger = ledger;
+    }
+
     // * METHOD OVERLOADING 1: Standard sorting instruction *
     public void sortWaste() {
         System.out.println("\n[Personnel Action] " + name + " is performing general waste segregation at the main intake area.");
@@ -18,6 +27,17 @@ public class MRFPersonnel {
     // * METHOD OVERLOADING 3: Inventory instruction with weight *
     public double sortWaste(double weightBaled) {
         System.out.println("[Personnel Action] " + name + " finished baling a batch. Recording " + weightBaled + " kg for inventory.");
+        if (ledger != null) {
+            ledger.record(name, MIXED, weightBaled);
+        }
+        return weightBaled;
+    }
+
+    // * METHOD OVERLOADING 4: Quiet inventory recording with material type (safe to call from many threads) *
+    public double sortWaste(String materialType, double weightBaled) {
+        if (ledger != null) {
+            ledger.record(name, materialType, weightBaled);
+        }
         return weightBaled;
     }
 }
\ No newline at end of file
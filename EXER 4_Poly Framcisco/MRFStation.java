@@ -0,0 +1,28 @@
+public enum MRFStation {
+    COMPOSTING("Composting Station", "Biodegradable Waste", "Directed to the Composting area to create organic fertilizer."),
+    SORTING("Sorting Section", "Recyclable Waste", "Segregated by type (%s) and baled for selling."),
+    HAULING("Hauling Area", "Residual Waste", "Stored temporarily and scheduled for hauling to the Sanitary Landfill.");
+
+    private final String displayName;
+    private final String wasteLabel;
+    private final String result;
+
+    MRFStation(String displayName, String wasteLabel, String result) {
+        this.displayName = displayName;
+        this.wasteLabel = wasteLabel;
+        this.result = result;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public String getWasteLabel() {
+        return wasteLabel;
+    }
+
+    // Same text as processAtMRF(); the Sorting result names the material type
+    public String getResult(String material) {
+        return this == SORTING ? String.format(result, material) : result;
+    }
+}
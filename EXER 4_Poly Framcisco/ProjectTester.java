@@ -1,7 +1,9 @@
+import java.io.File;
+import java.io.IOException;
 import java.util.ArrayList;
 
 public class ProjectTester {
-    public static void main(String[] args) {
+    public static void main(String[] args) throws IOException {
         
         // =================================================================
         // 1. RUN-TIME POLYMORPHISM (Dynamic Method Dispatch)
@@ -32,7 +34,8 @@ public class ProjectTester {
         // =================================================================
         System.out.println("--- 2. Testing Compile-time Polymorphism (Personnel Tasks) ---");
         
-        MRFPersonnel sorter = new MRFPersonnel("Ate Mila");
+        BalingLedger ledger = new BalingLedger();
+        MRFPersonnel sorter = new MRFPersonnel("Ate Mila", ledger);
 
         // Call Overload 1 (No arguments)
         sorter.sortWaste(); 
@@ -43,5 +46,82 @@ public class ProjectTester {
         // Call Overload 3 (Double argument)
         double recordedWeight = sorter.sortWaste(45.5);
         System.out.println("   * Final Inventory Update: " + recordedWeight + " kg added.");
+
+        // Call Overload 4 (String and double arguments, recorded in the shared ledger)
+        sorter.sortWaste("PET (#1)", 12.0);
+        System.out.println("   * Ledger Total: " + ledger.snapshot().getTotal());
+
+        System.out.println("\n======================================================\n");
+
+        // =================================================================
+        // 3. PARALLEL INTAKE (Per-station results instead of console lines)
+        // =================================================================
+        System.out.println("--- 3. Testing Parallel Intake Engine ---");
+
+        MRFIntakeEngine engine = new MRFIntakeEngine();
+        for (StationResult result : engine.process(collectedWaste).values()) {
+            System.out.println(result);
+        }
+        engine.shutdown();
+
+        System.out.println("\n======================================================\n");
+
+        // =================================================================
+        // 4. COLUMNAR STORE (Primitive columns instead of one object per item)
+        // =================================================================
+        System.out.println("--- 4. Testing Columnar Waste Store ---");
+
+        WasteItemStore store = new WasteItemStore();
+        store.addAll(collectedWaste);
+        store.get(1).processAtMRF();
+        System.out.println("   * Items stored: " + store.size() + ", composting weight: "
+                           + store.totalWeight(MRFStation.COMPOSTING) + " kg");
+
+        System.out.println("\n======================================================\n");
+
+        // =================================================================
+        // 5. ROUTING SINK (Allocation-free processing + optional renderer)
+        // =================================================================
+        System.out.println("--- 5. Testing Routing Sink ---");
+
+        RoutingSink sink = new RoutingSink(collectedWaste.size());
+        for (WasteItem item : collectedWaste) {
+            item.processAtMRF(sink);
+        }
+        new RoutingRenderer(System.out).render(sink);
+
+        System.out.println("\n======================================================\n");
+
+        // =================================================================
+        // 6. BINARY INTAKE LOG (Write once, replay through a memory map)
+        // =================================================================
+        System.out.println("--- 6. Testing Binary Intake Log Replay ---");
+
+        File logFile = File.createTempFile("intake", ".mrf");
+        File dictionaryFile = new File(logFile.getPath() + IntakeLogFormat.DICTIONARY_SUFFIX);
+        logFile.deleteOnExit();
+        dictionaryFile.deleteOnExit();
+        try (IntakeLogWriter writer = new IntakeLogWriter(logFile.getPath())) {
+            for (WasteItem item : collectedWaste) {
+                writer.append(item);
+            }
+        }
+        RoutingRenderer renderer = new RoutingRenderer(System.out);
+        try (IntakeLogReader reader = new IntakeLogReader(logFile.getPath())) {
+            System.out.println("Records in log: " + reader.getRecordCount());
+            reader.replay(new RoutingSink(2), renderer::render);
+        }
+
+        // Without its dictionary, appending would renumber descriptions and materials: refused
+        File movedDictionary = new File(dictionaryFile.getPath() + ".moved");
+        movedDictionary.deleteOnExit();
+        dictionaryFile.renameTo(movedDictionary);
+        try {
+            new IntakeLogWriter(logFile.getPath()).close();
+            System.out.println("Appending without the dictionary was allowed (unexpected).");
+        } catch (IOException e) {
+            System.out.println("Append refused: " + e.getMessage());
+        }
+        movedDictionary.renameTo(dictionaryFile);
     }
 }
\ No newline at end of file
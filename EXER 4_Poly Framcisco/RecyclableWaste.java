@@ -6,6 +6,15 @@ public class RecyclableWaste extends WasteItem {
         this.type = type;
     }
 
+    public String getType() {
+        return type;
+    }
+
+    @Override
+    public String getMaterial() {
+        return type;
+    }
+
     // * METHOD OVERRIDING: Specific implementation for Recyclable *
     @Override
     public void processAtMRF() {
@@ -13,4 +22,9 @@ public class RecyclableWaste extends WasteItem {
                             + getDescription() + " (" + getWeight() + " kg).");
         System.out.println("   * Result: Segregated by type (" + type + ") and baled for selling.");
     }
+
+    @Override
+    public MRFStation getStation() {
+        return MRFStation.SORTING;
+    }
 }
\ No newline at end of file
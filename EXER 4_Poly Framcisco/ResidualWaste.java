@@ -10,4 +10,9 @@ public class ResidualWaste extends WasteItem {
                             + getDescription() + " (" + getWeight() + " kg).");
         System.out.println("   * Result: Stored temporarily and scheduled for hauling to the Sanitary Landfill.");
     }
+
+    @Override
+    public MRFStation getStation() {
+        return MRFStation.HAULING;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,20 @@
+import java.io.PrintStream;
+
+public class RoutingRenderer {
+    private final PrintStream out;
+
+    public RoutingRenderer(PrintStream out) {
+        this.out = out;
+    }
+
+    // * Optional human-readable output on top of the allocation-free sink *
+    // Prints exactly what processAtMRF() prints for the same items
+    public void render(RoutingSink sink) {
+        for (int i = 0; i < sink.size(); i++) {
+            MRFStation station = sink.getStation(i);
+            out.println("-> [" + station.getDisplayName() + "] Processing " + station.getWasteLabel() + ": "
+                        + sink.getDescription(i) + " (" + sink.getWeight(i) + " kg).");
+            out.println("   * Result: " + station.getResult(sink.getMaterial(i)));
+        }
+    }
+}
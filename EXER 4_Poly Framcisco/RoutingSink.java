@@ -0,0 +1,73 @@
+import java.util.Arrays;
+
+public class RoutingSink {
+    private static final MRFStation[] STATIONS = MRFStation.values();
+
+    // * Preallocated buffers: recording a decision never creates an object *
+    private final byte[] stations;
+    private final double[] weights;
+    private final String[] descriptions; // references only, the strings are never copied
+    private final String[] materials;
+    private int count;
+
+    public RoutingSink(int capacity) {
+        this.stations = new byte[capacity];
+        this.weights = new double[capacity];
+        this.descriptions = new String[capacity];
+        this.materials = new String[capacity];
+    }
+
+    public void record(MRFStation station, double weight, String description, String material) {
+        if (count == stations.length) {
+            throw new IllegalStateException("RoutingSink is full (" + count + " entries); call clear() first.");
+        }
+        stations[count] = (byte) station.ordinal();
+        weights[count] = weight;
+        descriptions[count] = description;
+        materials[count] = material;
+        count++;
+    }
+
+    public int size() {
+        return count;
+    }
+    public int capacity() {
+        return stations.length;
+    }
+    public boolean isFull() {
+        return count == stations.length;
+    }
+
+    public MRFStation getStation(int index) {
+        checkIndex(index);
+        return STATIONS[stations[index]];
+    }
+
+    public double getWeight(int index) {
+        checkIndex(index);
+        return weights[index];
+    }
+
+    public String getDescription(int index) {
+        checkIndex(index);
+        return descriptions[index];
+    }
+
+    public String getMaterial(int index) {
+        checkIndex(index);
+        return materials[index];
+    }
+
+    // Reuses the same buffers for the next batch
+    public void clear() {
+        Arrays.fill(descriptions, 0, count, null);
+        Arrays.fill(materials, 0, count, null);
+        count = 0;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + count);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+
+public class RoutingSinkBenchmark {
+    public static void main(String[] args) {
+        int itemCount = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int rounds = 5;
+
+        ArrayList<WasteItem> intake = IntakeBenchmark.generateIntake(itemCount, 42);
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().getId();
+
+        System.out.println("--- processAtMRF Allocation Benchmark (" + itemCount + " items) ---");
+
+        // =================================================================
+        // 1. BEFORE: processAtMRF() with string concatenation + println
+        // =================================================================
+        PrintStream console = System.out;
+        PrintStream discard = new PrintStream(OutputStream.nullOutputStream());
+        long bestTime = Long.MAX_VALUE;
+        long bytes = 0;
+        for (int r = 0; r < rounds; r++) {
+            System.setOut(discard);
+            long allocated = threads.getThreadAllocatedBytes(thread);
+            long start = System.nanoTime();
+            for (WasteItem item : intake) {
+                item.processAtMRF();
+            }
+            bestTime = Math.min(bestTime, System.nanoTime() - start);
+            bytes = threads.getThreadAllocatedBytes(thread) - allocated;
+            System.setOut(console);
+        }
+        report("processAtMRF()", itemCount, bestTime, bytes);
+
+        // =================================================================
+        // 2. AFTER: processAtMRF(sink) into one reusable buffer
+        // =================================================================
+        RoutingSink sink = new RoutingSink(4096);
+        double checksum = 0;
+        bestTime = Long.MAX_VALUE;
+        for (int r = 0; r < rounds; r++) {
+            long allocated = threads.getThreadAllocatedBytes(thread);
+            long start = System.nanoTime();
+            for (int i = 0; i < intake.size(); i++) {
+                if (sink.isFull()) {
+                    checksum += drain(sink);
+                }
+                intake.get(i).processAtMRF(sink);
+            }
+            checksum += drain(sink);
+            bestTime = Math.min(bestTime, System.nanoTime() - start);
+            bytes = threads.getThreadAllocatedBytes(thread) - allocated;
+        }
+        report("processAtMRF(sink)", itemCount, bestTime, bytes);
+        System.out.println("(checksum " + checksum + ")");
+    }
+
+    // Stands in for whatever consumes the routing decisions downstream
+    private static double drain(RoutingSink sink) {
+        double total = 0;
+        for (int i = 0; i < sink.size(); i++) {
+            total += sink.getWeight(i) * (sink.getStation(i).ordinal() + 1);
+        }
+        sink.clear();
+        return total;
+    }
+
+    private static void report(String label, int items, long nanos, long bytes) {
+        System.out.printf("%-20s %8.1f ms  %10.0f items/s  %8.2f bytes/item%n",
+                          label, nanos / 1e6, items / (nanos / 1e9), (double) bytes / items);
+    }
+}
@@ -0,0 +1,42 @@
+public class StationResult {
+    private final MRFStation station;
+    private long itemCount;
+    private double totalWeightKg;
+
+    public StationResult(MRFStation station) {
+        this.station = station;
+    }
+
+    public StationResult(MRFStation station, long itemCount, double totalWeightKg) {
+        this.station = station;
+        this.itemCount = itemCount;
+        this.totalWeightKg = totalWeightKg;
+    }
+
+    public MRFStation getStation() {
+        return station;
+    }
+    public long getItemCount() {
+        return itemCount;
+    }
+    public double getTotalWeight() {
+        return totalWeightKg;
+    }
+
+    // Adds one processed item to this station's tally
+    public void add(double weight) {
+        itemCount++;
+        totalWeightKg += weight;
+    }
+
+    // Combines the tally of another partition into this one
+    public void merge(StationResult other) {
+        itemCount += other.itemCount;
+        totalWeightKg += other.totalWeightKg;
+    }
+
+    @Override
+    public String toString() {
+        return "[" + station.getDisplayName() + "] " + itemCount + " item(s), " + totalWeightKg + " kg";
+    }
+}
@@ -17,4 +17,17 @@ public abstract class WasteItem {
     // * RUN-TIME POLYMORPHISM: Abstract Method to be Overridden *
     // This defines the common interface for "processing."
     public abstract void processAtMRF(); 
+
+    // * METHOD OVERLOADING: Same processing, but the routing decision goes into a reusable sink *
+    public void processAtMRF(RoutingSink sink) {
+        sink.record(getStation(), getWeight(), getDescription(), getMaterial());
+    }
+
+    // Material type shown in the processing result; only recyclables have one
+    public String getMaterial() {
+        return null;
+    }
+
+    // * Station where this type of waste is routed (used by MRFIntakeEngine) *
+    public abstract MRFStation getStation();
 }
\ No newline at end of file
@@ -0,0 +1,183 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+
+public class WasteItemStore {
+    private static final MRFStation[] STATIONS = MRFStation.values();
+    private static final int NONE = -1;
+
+    // * One primitive column per field instead of one object per item *
+    private double[] weights;
+    private byte[] typeTags;       // MRFStation ordinal (one concrete type per station)
+    private int[] descriptionIds;  // index into the dictionary, NONE for a null description
+    private int[] materialIds;     // index into the dictionary, NONE if not recyclable
+    private int size;
+
+    // * Dictionary encoding: every distinct description/material string is stored once *
+    private final ArrayList<String> dictionary = new ArrayList<>();
+    private final HashMap<String, Integer> dictionaryIds = new HashMap<>();
+
+    public WasteItemStore() {
+        this(1024);
+    }
+
+    public WasteItemStore(int initialCapacity) {
+        int capacity = Math.max(16, initialCapacity);
+        weights = new double[capacity];
+        typeTags = new byte[capacity];
+        descriptionIds = new int[capacity];
+        materialIds = new int[capacity];
+    }
+
+    public void add(WasteItem item) {
+        String material = item instanceof RecyclableWaste ? ((RecyclableWaste) item).getType() : null;
+        add(item.getStation(), item.getDescription(), item.getWeight(), material);
+    }
+
+    public void add(MRFStation station, String description, double weight, String material) {
+        if (size == weights.length) {
+            grow();
+        }
+        weights[size] = weight;
+        typeTags[size] = (byte) station.ordinal();
+        descriptionIds[size] = encode(description);
+        materialIds[size] = encode(material);
+        size++;
+    }
+
+    public void addAll(List<? extends WasteItem> items) {
+        for (WasteItem item : items) {
+            add(item);
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public double getWeight(int index) {
+        checkIndex(index);
+        return weights[index];
+    }
+
+    public MRFStation getStation(int index) {
+        checkIndex(index);
+        return STATIONS[typeTags[index]];
+    }
+
+    public String getDescription(int index) {
+        checkIndex(index);
+        return descriptionIds[index] == NONE ? null : dictionary.get(descriptionIds[index]);
+    }
+
+    public String getMaterial(int index) {
+        checkIndex(index);
+        return materialIds[index] == NONE ? null : dictionary.get(materialIds[index]);
+    }
+
+    // * WasteItem-compatible view: rebuilds the object only when legacy code asks for it *
+    public WasteItem get(int index) {
+        switch (getStation(index)) {
+            case COMPOSTING:
+                return new BiodegradableWaste(getDescription(index), weights[index]);
+            case SORTING:
+                return new RecyclableWaste(getDescription(index), weights[index], getMaterial(index));
+            default:
+                return new ResidualWaste(getDescription(index), weights[index]);
+        }
+    }
+
+    // Sums the weight column for one station without creating any WasteItem
+    public double totalWeight(MRFStation station) {
+        byte tag = (byte) station.ordinal();
+        double total = 0;
+        for (int i = 0; i < size; i++) {
+            if (typeTags[i] == tag) {
+                total += weights[i];
+            }
+        }
+        return total;
+    }
+
+    // * MEMORY REPORT: columns + dictionary vs. the same items as ArrayList<WasteItem> *
+    // Object sizes assume a 64-bit JVM with compressed references
+    // (12-byte object headers, 16-byte array headers, 8-byte alignment).
+    public long columnBytes() {
+        long perSlot = Double.BYTES + Byte.BYTES + Integer.BYTES + Integer.BYTES;
+        return (long) weights.length * perSlot + 4 * arrayHeader();
+    }
+
+    public long dictionaryBytes() {
+        long bytes = 0;
+        for (String value : dictionary) {
+            bytes += stringBytes(value) + 4 + 32; // list slot + map entry with boxed id
+        }
+        return bytes;
+    }
+
+    public long objectListBytes() {
+        long bytes = arrayHeader() + 4L * size; // ArrayList backing array
+        for (int i = 0; i < size; i++) {
+            // header + description ref + double, plus the material ref for RecyclableWaste
+            bytes += align(12 + 4 + 8 + (getStation(i) == MRFStation.SORTING ? 4 : 0));
+        }
+        // Best case for the object list: every distinct description/material String is shared
+        // by all items that use it, so each one is counted once
+        for (String value : dictionary) {
+            bytes += stringBytes(value);
+        }
+        return bytes;
+    }
+
+    public String memoryReport() {
+        long columnar = columnBytes() + dictionaryBytes();
+        long objects = objectListBytes();
+        return "Items stored         : " + size
+             + "\nColumns              : " + columnBytes() + " bytes"
+             + "\nDictionary           : " + dictionary.size() + " strings, " + dictionaryBytes() + " bytes"
+             + "\nColumnar total       : " + columnar + " bytes (" + String.format("%.1f", (double) columnar / Math.max(1, size)) + " per item)"
+             + "\nArrayList<WasteItem> : " + objects + " bytes (" + String.format("%.1f", (double) objects / Math.max(1, size)) + " per item)"
+             + "\nSaved                : " + String.format("%.1f%%", 100.0 * (objects - columnar) / Math.max(1, objects));
+    }
+
+    private int encode(String value) {
+        if (value == null) {
+            return NONE;
+        }
+        Integer id = dictionaryIds.get(value);
+        if (id == null) {
+            id = dictionary.size();
+            dictionary.add(value);
+            dictionaryIds.put(value, id);
+        }
+        return id;
+    }
+
+    private void grow() {
+        int capacity = weights.length + (weights.length >> 1);
+        weights = Arrays.copyOf(weights, capacity);
+        typeTags = Arrays.copyOf(typeTags, capacity);
+        descriptionIds = Arrays.copyOf(descriptionIds, capacity);
+        materialIds = Arrays.copyOf(materialIds, capacity);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        }
+    }
+
+    private static long stringBytes(String value) {
+        // String object (header + hash + coder + value ref) + Latin-1 byte[]
+        return align(12 + 4 + 1 + 1 + 4) + align(arrayHeader() + value.length());
+    }
+
+    private static long arrayHeader() {
+        return 16;
+    }
+
+    private static long align(long bytes) {
+        return (bytes + 7) & ~7L;
+    }
+}
@@ -0,0 +1,52 @@
+import java.util.SplittableRandom;
+
+/**
+ * Measures the per-answer cost of AdaptiveDifficulty and shows how the difficulty settles
+ * for simulated players of different skill.
+ */
+public class AdaptiveBenchmark {
+
+	public static void main(String[] args) {
+		int players = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+		int answers = 10_000_000;
+		AdaptiveDifficulty adaptive = new AdaptiveDifficulty(players, new ProblemGenerator(42));
+		SplittableRandom random = new SplittableRandom(7);
+		Operation[] ops = Operation.values();
+
+		System.out.println(players + " players x " + ops.length + " operations");
+		System.out.println("-----------------------------");
+
+		// Hot-path cost: record one answer (the part that runs inside SessionEngine.answer)
+		for (int warm = 0; warm < 2; warm++) {
+			long start = System.nanoTime();
+			for (int i = 0; i < answers; i++) {
+				adaptive.record(random.nextInt(players), ops[i & 3], random.nextInt(10) < 8, 1_000 + random.nextInt(4_000));
+			}
+			long nanos = System.nanoTime() - start;
+			if (warm == 1) {
+				System.out.printf("record():        %.1f ns per answer%n", (double) nanos / answers);
+			}
+		}
+		long start = System.nanoTime();
+		long checksum = 0;
+		for (int i = 0; i < answers; i++) {
+			checksum += adaptive.next(random.nextInt(players), ops[i & 3]).getAnswer();
+		}
+		System.out.printf("next():          %.1f ns per problem (checksum %d)%n", (double) (System.nanoTime() - start) / answers, checksum);
+		System.out.printf("State:           %d bytes per player%n", ops.length * Long.BYTES);
+
+		// Simulated students: chance of a correct answer falls as the problems get harder
+		System.out.println("\nSimulated students, multiplication, 200 answers each:");
+		double[] skills = {0.3, 0.6, 0.9};
+		for (int p = 0; p < skills.length; p++) {
+			for (int round = 0; round < 200; round++) {
+				double difficulty = adaptive.getDifficulty(p, Operation.MULTIPLY);
+				double chance = Math.max(0.05, Math.min(0.98, 0.95 - (difficulty - skills[p]) * 1.5));
+				adaptive.record(p, Operation.MULTIPLY, random.nextDouble() < chance, 2_000 + (long) (difficulty * 4_000));
+			}
+			System.out.printf("  skill %.1f -> level %.2f, accuracy %.0f%%, %.1f s per answer, sample %s%n",
+				skills[p], adaptive.getEffectiveLevel(p, Operation.MULTIPLY), 100 * adaptive.getAccuracy(p, Operation.MULTIPLY),
+				adaptive.getResponseSeconds(p, Operation.MULTIPLY), adaptive.next(p, Operation.MULTIPLY).getText());
+		}
+	}
+}
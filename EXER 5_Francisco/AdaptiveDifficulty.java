@@ -0,0 +1,151 @@
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Adaptive difficulty: keeps exponentially decayed accuracy and response time for every
+ * (player, operation) and steers a difficulty value between Level 1 and Level 3 so the
+ * player lands at about TARGET_ACCURACY. Operand ranges are interpolated between the
+ * LEVEL_RANGES rows.
+ *
+ * Each (player, operation) is one packed long updated with a single compare-and-set:
+ * accuracy (16 bits) | response time in 1/10 s (16 bits) | difficulty (16 bits) | answers (16 bits).
+ * Recording an answer is O(1), allocation-free and lock-free.
+ */
+public class AdaptiveDifficulty {
+	public static final double TARGET_ACCURACY = 0.80;
+	// Answers slower than this count as struggling even when correct
+	public static final long SLOW_ANSWER_MILLIS = 8_000;
+
+	private static final double DECAY = 0.15;      // weight of the newest answer
+	private static final double STEP = 0.08;       // difficulty change per unit of accuracy error
+	private static final int WARMUP_ANSWERS = 3;   // answers before difficulty starts moving
+	private static final int STEPS = 64;           // precomputed range rows between Level 1 and Level 3
+	private static final int FIELD = 0xFFFF;
+	private static final int OPERATIONS = Operation.values().length;
+
+	private static final int[][] RANGE_ROWS = buildRangeRows();
+
+	private final int capacity;
+	private final ProblemGenerator generator;
+	private final AtomicLongArray stats;
+
+	public AdaptiveDifficulty(int capacity, ProblemGenerator generator) {
+		this.capacity = capacity;
+		this.generator = generator;
+		this.stats = new AtomicLongArray(capacity * OPERATIONS);
+		for (int i = 0; i < stats.length(); i++) {
+			// Start at Level 1 with a neutral history
+			stats.set(i, pack(TARGET_ACCURACY, 0, 0, 0));
+		}
+	}
+
+	/**
+	 * Forgets a player's history, e.g. when their slot is reused by a new player.
+	 */
+	public void reset(int player) {
+		for (Operation op : Operation.values()) {
+			stats.set(slot(player, op), pack(TARGET_ACCURACY, 0, 0, 0));
+		}
+	}
+
+	/**
+	 * Generates the next problem for a player at their current difficulty; a null operation picks one at random.
+	 */
+	public Problem next(int player, Operation operation) {
+		Operation op = operation != null ? operation : generator.randomOperation();
+		double difficulty = difficulty(stats.get(slot(player, op)));
+		return generator.next(op, RANGE_ROWS[(int) Math.round(difficulty * (STEPS - 1))]);
+	}
+
+	/**
+	 * Records one answer and moves the difficulty toward the target accuracy.
+	 */
+	public void record(int player, Operation operation, boolean correct, long responseMillis) {
+		int slot = slot(player, operation);
+		long current;
+		long updated;
+		do {
+			current = stats.get(slot);
+			double accuracy = accuracy(current) + DECAY * ((correct ? 1 : 0) - accuracy(current));
+			double seconds = responseSeconds(current);
+			seconds += (seconds == 0 ? 1 : DECAY) * (responseMillis / 1000.0 - seconds);
+			int answers = Math.min(FIELD, answers(current) + 1);
+			double difficulty = difficulty(current);
+			if (answers > WARMUP_ANSWERS) {
+				double error = accuracy - TARGET_ACCURACY;
+				if (seconds * 1000 > SLOW_ANSWER_MILLIS) {
+					error = Math.min(error, 0) - 0.05;
+				}
+				difficulty = Math.max(0, Math.min(1, difficulty + STEP * error));
+			}
+			updated = pack(accuracy, seconds, difficulty, answers);
+		} while (!stats.compareAndSet(slot, current, updated));
+	}
+
+	/**
+	 * Current difficulty from 0 (Level 1) to 1 (Level 3).
+	 */
+	public double getDifficulty(int player, Operation operation) {
+		return difficulty(stats.get(slot(player, operation)));
+	}
+
+	/**
+	 * Same scale as the level selector: 1.0 (Easy) to 3.0 (Difficult).
+	 */
+	public double getEffectiveLevel(int player, Operation operation) {
+		return 1 + getDifficulty(player, operation) * (ProblemGenerator.LEVELS - 1);
+	}
+
+	public double getAccuracy(int player, Operation operation) {
+		return accuracy(stats.get(slot(player, operation)));
+	}
+
+	public double getResponseSeconds(int player, Operation operation) {
+		return responseSeconds(stats.get(slot(player, operation)));
+	}
+
+	private int slot(int player, Operation operation) {
+		if (player < 0 || player >= capacity) {
+			throw new IllegalArgumentException("Unknown player " + player);
+		}
+		return player * OPERATIONS + operation.ordinal();
+	}
+
+	private static long pack(double accuracy, double seconds, double difficulty, int answers) {
+		long a = Math.round(accuracy * FIELD);
+		long t = Math.min(FIELD, Math.round(seconds * 10));
+		long d = Math.round(difficulty * FIELD);
+		return a << 48 | t << 32 | d << 16 | answers;
+	}
+
+	private static double accuracy(long packed) {
+		return (double) ((packed >>> 48) & FIELD) / FIELD;
+	}
+
+	private static double responseSeconds(long packed) {
+		return ((packed >>> 32) & FIELD) / 10.0;
+	}
+
+	private static double difficulty(long packed) {
+		return (double) ((packed >>> 16) & FIELD) / FIELD;
+	}
+
+	private static int answers(long packed) {
+		return (int) (packed & FIELD);
+	}
+
+	// Row s blends the two nearest LEVEL_RANGES rows at position s / (STEPS - 1)
+	private static int[][] buildRangeRows() {
+		int[][] levels = ProblemGenerator.LEVEL_RANGES;
+		int[][] rows = new int[STEPS][];
+		for (int s = 0; s < STEPS; s++) {
+			double position = (double) s / (STEPS - 1) * (levels.length - 1);
+			int lower = Math.min((int) position, levels.length - 2);
+			double fraction = position - lower;
+			rows[s] = new int[levels[lower].length];
+			for (int p = 0; p < rows[s].length; p++) {
+				rows[s][p] = (int) Math.round(levels[lower][p] + fraction * (levels[lower + 1][p] - levels[lower][p]));
+			}
+		}
+		return rows;
+	}
+}
@@ -5,7 +5,8 @@ import javax.swing.border.EmptyBorder;
 import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
-import java.util.Random;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
 
 public class ArithmeticGameGUI extends JFrame implements ActionListener {
 
@@ -24,23 +25,13 @@ public class ArithmeticGameGUI extends JFrame implements ActionListener {
 	// --- Game State ---
 	private int score = 0;
 	private int currentAnswer = 0;
-	private final Random random = new Random();
-
-	// --- Difficulty Settings ---
-	// Structure per Level (13 parameters):
-	// + (min1, max1, min2, max2) [0-3]
-	// - (minResult, maxResult, maxSubtrahend) [4-6]
-	// * (min1, max1, min2, max2) [7-10]
-	// / (resultMax, divisorMax) [11-12]
-	private final int[][] LEVEL_RANGES = {
-		// Level 1: Easy
-		{1, 20, 1, 20, 5, 15, 20, 1, 9, 1, 5, 10, 10},
-		// Level 2: Medium
-		{20, 99, 10, 99, 10, 50, 99, 5, 15, 5, 15, 15, 15},
-		// Level 3: Difficult
-		{100, 500, 100, 500, 50, 200, 500, 10, 25, 10, 25, 20, 20}
-	};
-	
+	private Operation currentOperation;
+	private long problemShownAt; // nanoTime, for adaptive response times
+	// Problems are prefetched in the background so the EDT only pops the next one
+	private final ProblemPool problemPool = new ProblemPool(new ProblemGenerator(), 64);
+	private final RoundTimer roundTimer = new RoundTimer(); // EDT time spent per round
+	private final AdaptiveDifficulty adaptive = new AdaptiveDifficulty(1, new ProblemGenerator()); // single local player
+
 	// Custom Colors
 	private static final Color PRIMARY_COLOR = new Color(79, 70, 229); // indigo-600
 	private static final Color BACKGROUND_COLOR = new Color(240, 244, 248); // off-white/light gray
@@ -144,7 +135,7 @@ public class ArithmeticGameGUI extends JFrame implements ActionListener {
 		
 		// Level selector using custom renderer for bullet points
 		levelSelector = new JComboBox<>(new String[] {
-			"1", "2", "3"
+			"1", "2", "3", "A"
 		});
 		levelSelector.setRenderer(new LevelComboBoxRenderer()); 
 		levelSelector.setFont(new Font("Inter", Font.PLAIN, 14));
@@ -210,82 +201,42 @@ public class ArithmeticGameGUI extends JFrame implements ActionListener {
 		feedbackBox.setAlignmentX(Component.CENTER_ALIGNMENT);
 		gamePanel.add(feedbackBox);
 
+		// Report EDT time per round when the window closes
+		addWindowListener(new WindowAdapter() {
+			@Override
+			public void windowClosing(WindowEvent e) {
+				System.out.println("EDT time per round: " + roundTimer.summary());
+				System.out.println("Problems generated on the EDT (pool empty): " + problemPool.getMisses());
+			}
+		});
+
 		// Initial setup
 		generateProblem();
 		pack(); // Adjust window size based on content
 		setVisible(true);
 	}
 
-	/**
-	 * Helper to get a random integer in a range (inclusive).
-	 */
-	private int getRandomInt(int min, int max) {
-		if (min > max) return min; // Safety check
-		return random.nextInt(max - min + 1) + min;
-	}
-
 	/**
 	 * Generates a new arithmetic problem based on current selections.
 	 */
 	private void generateProblem() {
-		String selectedOperation = (String) operationSelector.getSelectedItem();
+		long start = System.nanoTime();
+		Operation operation = Operation.fromKey((String) operationSelector.getSelectedItem()); // null for "random"
 		int selectedLevel = levelSelector.getSelectedIndex(); // 0-indexed
 
-		String operator;
-		if (selectedOperation.equals("random")) {
-			String[] internalOperators = {"+", "-", "*", "/"};
-			operator = internalOperators[random.nextInt(internalOperators.length)];
-		} else {
-			operator = selectedOperation;
-		}
-
-		// Use standard symbols for display (× for multiply, ÷ for divide)
-		String symbol = operator.equals("*") ? "×" : (operator.equals("/") ? "÷" : operator);
-
-		// Retrieve ranges for the selected level (0-indexed array)
-		int[] ranges = LEVEL_RANGES[selectedLevel];
-		int num1 = 0, num2 = 0;
-		int currentAnswerValue = 0;
-
-		switch (operator) {
-			case "+":
-				// Ranges: 0-3
-				num1 = getRandomInt(ranges[0], ranges[1]); 
-				num2 = getRandomInt(ranges[2], ranges[3]);
-				currentAnswerValue = num1 + num2;
-				break;
-			case "-":
-				// Ranges: 4-6 (minResult, maxResult, maxSubtrahend)
-				int resultSub = getRandomInt(ranges[4], ranges[5]); 
-				// Ensure num2 is a reasonable positive number 
-				num2 = getRandomInt(5, ranges[6]); 
-				num1 = resultSub + num2;
-				currentAnswerValue = resultSub;
-				break;
-			case "*":
-				// Ranges: 7-10
-				num1 = getRandomInt(ranges[7], ranges[8]); 
-				num2 = getRandomInt(ranges[9], ranges[10]); 
-				currentAnswerValue = num1 * num2;
-				break;
-			case "/":
-				// Ranges: 11-12 (resultMax, divisorMax)
-				// Ensure division always results in an integer
-				int result = getRandomInt(2, ranges[11]); 
-				num2 = getRandomInt(2, ranges[12]); 
-				num1 = result * num2; // Dividend is product of result and divisor
-				currentAnswerValue = result;
-				break;
-		}
-
-		currentAnswer = currentAnswerValue;
-		problemDisplay.setText(String.format("%d %s %d", num1, symbol, num2));
+		boolean adaptiveMode = selectedLevel == ProblemGenerator.LEVELS; // last entry: Adaptive
+		Problem problem = adaptiveMode ? adaptive.next(0, operation) : problemPool.next(operation, selectedLevel);
+		currentAnswer = problem.getAnswer();
+		currentOperation = problem.getOperation();
+		problemShownAt = System.nanoTime();
+		problemDisplay.setText(problem.getText());
 		answerInput.setText("");
 		answerInput.requestFocusInWindow();
 		
 		feedbackBox.setText("");
 		wrongAnswerDisplay.setVisible(false); // Hide wrong answer message on new problem
 		gamePanel.setBackground(CARD_COLOR); 
+		roundTimer.record(System.nanoTime() - start);
 	}
 
 	/**
@@ -295,6 +246,10 @@ public class ArithmeticGameGUI extends JFrame implements ActionListener {
 		try {
 			int userAnswer = Integer.parseInt(answerInput.getText().trim());
 
+			if (levelSelector.getSelectedIndex() == ProblemGenerator.LEVELS) {
+				adaptive.record(0, currentOperation, userAnswer == currentAnswer, (System.nanoTime() - problemShownAt) / 1_000_000);
+			}
+
 			if (userAnswer == currentAnswer) {
 				// Correct Answer
 				score++;
@@ -416,6 +371,7 @@ public class ArithmeticGameGUI extends JFrame implements ActionListener {
 					case "1": setText(BULLET + "Level 1: Easy"); break;
 					case "2": setText(BULLET + "Level 2: Medium"); break;
 					case "3": setText(BULLET + "Level 3: Difficult"); break;
+					case "A": setText(BULLET + "Adaptive"); break;
 				}
 			}
 			return this;
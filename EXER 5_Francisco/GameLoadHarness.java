@@ -0,0 +1,103 @@
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Local client harness: starts a GameServer in-process, connects many simulated players
+ * that answer as fast as they can (about 90% correctly), then prints server and client metrics.
+ */
+public class GameLoadHarness {
+
+	// Set once every player has joined, so slow connection setup is not measured
+	private static volatile long warmupEnd;
+	private static volatile long deadline;
+
+	public static void main(String[] args) throws Exception {
+		int players = args.length > 0 ? Integer.parseInt(args[0]) : 2_000;
+		int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+
+		GameServer server = new GameServer(new SessionEngine(players, new ProblemGenerator(42)), 0);
+		RoundTimer roundTrips = new RoundTimer();
+		CountDownLatch joined = new CountDownLatch(players);
+		CountDownLatch go = new CountDownLatch(1);
+
+		System.out.println(players + " players for " + seconds + " s against localhost:" + server.getPort());
+		System.out.println("-----------------------------");
+
+		List<Thread> clients = new ArrayList<>();
+		for (int p = 0; p < players; p++) {
+			int seed = p;
+			Thread client = new Thread(() -> play(server.getPort(), seed, joined, go, roundTrips), "client-" + p);
+			client.start();
+			clients.add(client);
+		}
+		joined.await();
+		warmupEnd = System.nanoTime() + 1_000_000_000L;
+		deadline = warmupEnd + seconds * 1_000_000_000L;
+		go.countDown();
+		Thread.sleep(1_000);
+		server.getEngine().getMetrics().reset(); // drop warm-up
+		for (Thread client : clients) {
+			client.join();
+		}
+
+		System.out.println("Server:  " + server.getEngine().getMetrics().summary());
+		System.out.println("Clients: round trip " + roundTrips.summary());
+		server.shutdown();
+	}
+
+	private static void play(int port, long seed, CountDownLatch joined, CountDownLatch go, RoundTimer roundTrips) {
+		SplittableRandom random = new SplittableRandom(seed);
+		try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port);
+			BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+			Writer out = new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.US_ASCII)) {
+			socket.setTcpNoDelay(true);
+			out.write("JOIN " + (1 + random.nextInt(ProblemGenerator.LEVELS)) + "\n");
+			out.flush();
+			String[] reply = in.readLine().split(" ");
+			int player = Integer.parseInt(reply[1]);
+			int problemAt = 2; // index of "round" in the reply
+			joined.countDown();
+			go.await();
+
+			while (System.nanoTime() < deadline) {
+				int round = Integer.parseInt(reply[problemAt]);
+				int answer = solve(Integer.parseInt(reply[problemAt + 1]), reply[problemAt + 2], Integer.parseInt(reply[problemAt + 3]));
+				if (random.nextInt(10) == 0) {
+					answer++;
+				}
+				long start = System.nanoTime();
+				out.write("ANSWER " + player + " " + round + " " + answer + "\n");
+				out.flush();
+				reply = in.readLine().split(" ");
+				if (start > warmupEnd) {
+					roundTrips.record(System.nanoTime() - start);
+				}
+				problemAt = reply[0].equals("CORRECT") ? 2 : reply[0].equals("WRONG") ? 3 : 1;
+			}
+			out.write("QUIT\n");
+			out.flush();
+			in.readLine();
+		} catch (IOException | InterruptedException e) {
+			System.err.println("Client " + seed + " failed: " + e.getMessage());
+		}
+	}
+
+	private static int solve(int a, String op, int b) {
+		switch (op) {
+			case "+": return a + b;
+			case "-": return a - b;
+			case "*": return a * b;
+			default: return a / b;
+		}
+	}
+}
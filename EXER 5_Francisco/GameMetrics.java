@@ -0,0 +1,96 @@
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters and answer-check latency for the game server, safe to update from many threads.
+ * Latency buckets split every power of two (in nanoseconds) into 4 sub-buckets.
+ */
+public class GameMetrics {
+	private static final int SUB_BUCKETS = 4;
+	private static final int BUCKETS = 64 * SUB_BUCKETS;
+
+	private final LongAdder answers = new LongAdder();
+	private final LongAdder correct = new LongAdder();
+	private final LongAdder stale = new LongAdder();
+	private final AtomicLongArray latencyBuckets = new AtomicLongArray(BUCKETS);
+	private volatile long startNanos = System.nanoTime();
+
+	void recordAnswer(int outcome, long checkNanos) {
+		answers.increment();
+		if (outcome == SessionEngine.CORRECT) {
+			correct.increment();
+		} else if (outcome == SessionEngine.STALE) {
+			stale.increment();
+		}
+		latencyBuckets.incrementAndGet(bucket(Math.max(1, checkNanos)));
+	}
+
+	/**
+	 * Clears all counters, e.g. after a warm-up phase.
+	 */
+	public void reset() {
+		answers.reset();
+		correct.reset();
+		stale.reset();
+		for (int i = 0; i < BUCKETS; i++) {
+			latencyBuckets.set(i, 0);
+		}
+		startNanos = System.nanoTime();
+	}
+
+	public long getAnswers() {
+		return answers.sum();
+	}
+
+	public long getCorrect() {
+		return correct.sum();
+	}
+
+	public long getStale() {
+		return stale.sum();
+	}
+
+	public double getAnswersPerSecond() {
+		return getAnswers() / Math.max(1e-9, (System.nanoTime() - startNanos) / 1e9);
+	}
+
+	/**
+	 * Upper bound (in nanoseconds) of the bucket holding quantile q (0..1).
+	 */
+	public long getCheckLatencyNanos(double q) {
+		long total = 0;
+		for (int i = 0; i < BUCKETS; i++) {
+			total += latencyBuckets.get(i);
+		}
+		long rank = Math.max(1, (long) Math.ceil(total * q));
+		long seen = 0;
+		for (int i = 0; i < BUCKETS; i++) {
+			seen += latencyBuckets.get(i);
+			if (seen >= rank) {
+				return upperBound(i);
+			}
+		}
+		return 0;
+	}
+
+	public String summary() {
+		return String.format("%,d answers (%.0f/s), %d%% correct, %d stale, check latency p50 <= %d ns, p99 <= %d ns",
+			getAnswers(), getAnswersPerSecond(), getAnswers() == 0 ? 0 : 100 * getCorrect() / getAnswers(), getStale(),
+			getCheckLatencyNanos(0.50), getCheckLatencyNanos(0.99));
+	}
+
+	private static int bucket(long nanos) {
+		int exponent = 63 - Long.numberOfLeadingZeros(nanos);
+		int sub = exponent < 2 ? 0 : (int) ((nanos >>> (exponent - 2)) & (SUB_BUCKETS - 1));
+		return exponent * SUB_BUCKETS + sub;
+	}
+
+	private static long upperBound(int bucket) {
+		int exponent = bucket / SUB_BUCKETS;
+		int sub = bucket % SUB_BUCKETS;
+		if (exponent < 2) {
+			return (2L << exponent) - 1;
+		}
+		return (1L << exponent) + ((sub + 1L) << (exponent - 2)) - 1;
+	}
+}
@@ -0,0 +1,240 @@
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Serves many game sessions over a line-based protocol on a local socket.
+ *
+ * JOIN level                  -> WELCOME player round num1 op num2   (level 1-3, or A for adaptive)
+ * ANSWER player round value   -> CORRECT score round num1 op num2
+ *                                WRONG expected score round num1 op num2
+ *                                STALE round num1 op num2
+ * SCORE player                -> SCORE score
+ * RANK player                 -> RANK rank score
+ * TOP k                       -> TOP player:score player:score ... (k at most 100)
+ * QUIT                        -> BYE (connection closes)
+ *
+ * Operators are sent as + - * / and each reply carries the player's next problem.
+ * A connection joins once and may only answer, score and rank its own player id;
+ * QUIT or a dropped connection frees the id for a later JOIN.
+ * Every connection gets its own thread: a virtual thread when the JVM offers them,
+ * otherwise a pooled platform thread.
+ */
+public class GameServer {
+	private static final int MAX_TOP = 100;
+
+	private final SessionEngine engine;
+	private final ServerSocket serverSocket;
+	private final ExecutorService connections;
+	private final Thread acceptor;
+	private volatile boolean running = true;
+
+	public GameServer(SessionEngine engine, int port) throws IOException {
+		this.engine = engine;
+		this.serverSocket = new ServerSocket(port, 1024, InetAddress.getLoopbackAddress());
+		this.connections = newConnectionExecutor();
+		this.acceptor = new Thread(this::acceptLoop, "game-server-accept");
+		acceptor.start();
+	}
+
+	public int getPort() {
+		return serverSocket.getLocalPort();
+	}
+
+	public SessionEngine getEngine() {
+		return engine;
+	}
+
+	public void shutdown() throws IOException {
+		running = false;
+		serverSocket.close();
+		connections.shutdownNow();
+	}
+
+	private static ExecutorService newConnectionExecutor() {
+		try {
+			// Java 21+: Executors.newVirtualThreadPerTaskExecutor()
+			return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+		} catch (ReflectiveOperationException e) {
+			return Executors.newCachedThreadPool(r -> {
+				Thread t = new Thread(r, "game-session");
+				t.setDaemon(true);
+				return t;
+			});
+		}
+	}
+
+	private void acceptLoop() {
+		while (running) {
+			try {
+				Socket socket = serverSocket.accept();
+				socket.setTcpNoDelay(true);
+				connections.execute(() -> serve(socket));
+			} catch (IOException e) {
+				if (running) {
+					System.err.println("Accept failed: " + e.getMessage());
+				}
+			}
+		}
+	}
+
+	private void serve(Socket socket) {
+		try (socket;
+			BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+			BufferedWriter out = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.US_ASCII))) {
+			StringBuilder reply = new StringBuilder(64);
+			Connection connection = new Connection();
+			String line;
+			try {
+				while ((line = in.readLine()) != null) {
+					reply.setLength(0);
+					boolean quit = handle(line, reply, connection);
+					out.append(reply).append('\n');
+					out.flush();
+					if (quit) {
+						break;
+					}
+				}
+			} finally {
+				connection.leave(engine);
+			}
+		} catch (IOException e) {
+			// Client went away; its slot has been freed
+		}
+	}
+
+	/**
+	 * Handles one request line; returns true when the client asked to quit.
+	 */
+	boolean handle(String line, StringBuilder reply, Connection connection) {
+		String[] parts = line.trim().split(" ");
+		try {
+			switch (parts[0]) {
+				case "JOIN": {
+					if (connection.player != Connection.NONE) {
+						throw new IllegalStateException("already joined as player " + connection.player);
+					}
+					int player = engine.join(parts[1].equals("A") ? SessionEngine.ADAPTIVE : Integer.parseInt(parts[1]) - 1);
+					connection.player = player;
+					reply.append("WELCOME ").append(player).append(' ');
+					appendProblem(reply, engine.currentProblem(player));
+					return false;
+				}
+				case "ANSWER": {
+					int player = connection.own(parts[1]);
+					long result = engine.answer(player, Integer.parseInt(parts[2]), Integer.parseInt(parts[3]));
+					int outcome = SessionEngine.outcome(result);
+					if (outcome == SessionEngine.CORRECT) {
+						reply.append("CORRECT ").append(engine.getScore(player)).append(' ');
+					} else if (outcome == SessionEngine.WRONG) {
+						reply.append("WRONG ").append(SessionEngine.expected(result)).append(' ')
+							.append(engine.getScore(player)).append(' ');
+					} else {
+						reply.append("STALE ");
+					}
+					appendProblem(reply, engine.currentProblem(player));
+					return false;
+				}
+				case "SCORE":
+					reply.append("SCORE ").append(engine.getScore(connection.own(parts[1])));
+					return false;
+				case "RANK": {
+					int player = connection.own(parts[1]);
+					Leaderboard leaderboard = engine.getLeaderboard();
+					reply.append("RANK ").append(leaderboard.getRank(player)).append(' ').append(leaderboard.getScore(player));
+					return false;
+				}
+				case "TOP": {
+					int k = Math.min(MAX_TOP, Integer.parseInt(parts[1]));
+					int[] players = new int[k];
+					int[] scores = new int[k];
+					int n = engine.getLeaderboard().top(k, players, scores);
+					reply.append("TOP");
+					for (int i = 0; i < n; i++) {
+						reply.append(' ').append(players[i]).append(':').append(scores[i]);
+					}
+					return false;
+				}
+				case "QUIT":
+					connection.leave(engine);
+					reply.append("BYE");
+					return true;
+				default:
+					reply.append("ERROR unknown command ").append(parts[0]);
+					return false;
+			}
+		} catch (RuntimeException e) {
+			// Bad numbers, missing arguments, unknown player, server full
+			reply.setLength(0);
+			reply.append("ERROR ").append(e.getMessage());
+			return false;
+		}
+	}
+
+	/**
+	 * The player id a connection joined as; requests may only name that id.
+	 */
+	static final class Connection {
+		static final int NONE = -1;
+
+		int player = NONE;
+
+		int own(String requested) {
+			int id = Integer.parseInt(requested);
+			if (player == NONE) {
+				throw new IllegalStateException("JOIN first");
+			}
+			if (id != player) {
+				throw new IllegalArgumentException("Player " + id + " is not on this connection");
+			}
+			return id;
+		}
+
+		void leave(SessionEngine engine) {
+			if (player != NONE) {
+				engine.leave(player);
+				player = NONE;
+			}
+		}
+	}
+
+	private static void appendProblem(StringBuilder reply, long problem) {
+		reply.append(SessionEngine.round(problem)).append(' ')
+			.append(SessionEngine.num1(problem)).append(' ')
+			.append(SessionEngine.operation(problem).getKey()).append(' ')
+			.append(SessionEngine.num2(problem));
+	}
+
+	// --- Main Method ---
+	public static void main(String[] args) throws IOException {
+		int port = args.length > 0 ? Integer.parseInt(args[0]) : 5050;
+		int capacity = args.length > 1 ? Integer.parseInt(args[1]) : 100_000;
+		ProblemGenerator generator = new ProblemGenerator();
+		GameServer server = new GameServer(new SessionEngine(capacity, generator, generator), port);
+		System.out.println("Arithmetic game server listening on localhost:" + server.getPort());
+
+		// Publish throughput and answer-check latency every 5 seconds
+		Thread reporter = new Thread(() -> {
+			while (true) {
+				try {
+					Thread.sleep(5_000);
+				} catch (InterruptedException e) {
+					return;
+				}
+				GameMetrics metrics = server.getEngine().getMetrics();
+				System.out.println(server.getEngine().getPlayerCount() + " players, " + metrics.summary());
+				metrics.reset();
+			}
+		}, "game-server-metrics");
+		reporter.setDaemon(true);
+		reporter.start();
+	}
+}
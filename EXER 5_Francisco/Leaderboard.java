@@ -0,0 +1,196 @@
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Global leaderboard for multi-player games.
+ * Players are kept in a concurrent skip list ordered by score (highest first), which
+ * gives the top-k in O(log n + k). A Fenwick tree of player counts per score answers
+ * "rank of player X" in O(log maxScore). Ties share a rank (1, 2, 2, 4, ...).
+ * Updates are lock-free: a score changes with one compare-and-set, and the player's skip-list
+ * entry is then brought up to date by whichever thread claims it (see publish()), so the list
+ * ends up with exactly one entry per player. Readers see a live, possibly in-flight view.
+ */
+public class Leaderboard {
+	// Scores at or above this value are counted together when ranking
+	public static final int MAX_RANKED_SCORE = (1 << 16) - 1;
+
+	// Set in listed[player] while one thread moves that player's skip-list entry
+	private static final int MOVING = Integer.MIN_VALUE;
+
+	private final int capacity;
+	private final AtomicIntegerArray scores;
+	private final ConcurrentSkipListSet<Long> order = new ConcurrentSkipListSet<>();
+	private final AtomicLongArray countTree = new AtomicLongArray(MAX_RANKED_SCORE + 2); // 1-based Fenwick tree
+	private final AtomicIntegerArray joined;
+	private final AtomicIntegerArray listed; // score the skip list holds for each player, plus MOVING
+
+	public Leaderboard(int capacity) {
+		this.capacity = capacity;
+		this.scores = new AtomicIntegerArray(capacity);
+		this.joined = new AtomicIntegerArray(capacity);
+		this.listed = new AtomicIntegerArray(capacity);
+	}
+
+	/**
+	 * Adds a player with score 0; joining twice has no effect.
+	 */
+	public void join(int player) {
+		checkPlayer(player);
+		if (joined.compareAndSet(player, 0, 1)) {
+			order.add(key(0, player));
+			addCount(0, 1);
+		}
+	}
+
+	/**
+	 * Removes a player; the id can join again later and starts over at score 0.
+	 * Must not overlap with applyDelta() for the same player.
+	 */
+	public void leave(int player) {
+		checkPlayer(player);
+		if (!joined.compareAndSet(player, 1, 0)) {
+			return;
+		}
+		// Take over the entry; a thread still moving it finishes first
+		int entry;
+		while (((entry = listed.get(player)) & MOVING) != 0 || !listed.compareAndSet(player, entry, entry | MOVING)) {
+			Thread.onSpinWait();
+		}
+		addCount(scores.getAndSet(player, 0), -1);
+		order.remove(key(entry, player));
+		listed.set(player, 0);
+	}
+
+	/**
+	 * Applies a score change (score never drops below zero) and returns the new score.
+	 */
+	public int applyDelta(int player, int delta) {
+		checkJoined(player);
+		int oldScore;
+		int newScore;
+		do {
+			oldScore = scores.get(player);
+			newScore = Math.max(0, oldScore + delta);
+			if (newScore == oldScore) {
+				return oldScore;
+			}
+		} while (!scores.compareAndSet(player, oldScore, newScore));
+		moveCount(oldScore, newScore);
+		publish(player);
+		return newScore;
+	}
+
+	// Moves the player's skip-list entry to their current score. Only the thread that sets
+	// MOVING touches the entry; any other updater leaves the move to it and returns at once.
+	// The mover re-reads the score after clearing MOVING, and updaters read listed after their
+	// own compare-and-set, so one of the two always sees the latest score: none is lost.
+	private void publish(int player) {
+		while (true) {
+			int entry = listed.get(player);
+			if ((entry & MOVING) != 0 || entry == scores.get(player)) {
+				return;
+			}
+			if (listed.compareAndSet(player, entry, entry | MOVING)) {
+				int score = scores.get(player);
+				if (score != entry) {
+					order.add(key(score, player));
+					order.remove(key(entry, player));
+				}
+				listed.set(player, score);
+			}
+		}
+	}
+
+	public int getScore(int player) {
+		checkJoined(player);
+		return scores.get(player);
+	}
+
+	/**
+	 * 1-based rank: one more than the number of players with a strictly higher score.
+	 */
+	public long getRank(int player) {
+		int score = Math.min(getScore(player), MAX_RANKED_SCORE);
+		return 1 + prefixCount(MAX_RANKED_SCORE) - prefixCount(score);
+	}
+
+	/**
+	 * Fills players/scores with up to k leaders (highest score first, lower id first on ties)
+	 * and returns how many were written.
+	 */
+	public int top(int k, int[] players, int[] topScores) {
+		int n = 0;
+		Iterator<Long> it = order.iterator();
+		while (n < k && it.hasNext()) {
+			long key = it.next();
+			players[n] = player(key);
+			topScores[n] = score(key);
+			n++;
+		}
+		return n;
+	}
+
+	public long getPlayerCount() {
+		return prefixCount(MAX_RANKED_SCORE);
+	}
+
+	// Highest score first: store the score inverted in the high half
+	private static long key(int score, int player) {
+		return ((long) (Integer.MAX_VALUE - score) << 32) | player;
+	}
+
+	private static int score(long key) {
+		return Integer.MAX_VALUE - (int) (key >>> 32);
+	}
+
+	private static int player(long key) {
+		return (int) key;
+	}
+
+	private void addCount(int score, long delta) {
+		for (int i = Math.min(score, MAX_RANKED_SCORE) + 1; i < countTree.length(); i += i & -i) {
+			countTree.getAndAdd(i, delta);
+		}
+	}
+
+	// Moves one player between scores. The two update paths join at a common
+	// ancestor, after which -1 and +1 cancel, so only the differing nodes are touched.
+	private void moveCount(int oldScore, int newScore) {
+		int i = Math.min(oldScore, MAX_RANKED_SCORE) + 1;
+		int j = Math.min(newScore, MAX_RANKED_SCORE) + 1;
+		int n = countTree.length();
+		while (i != j && (i < n || j < n)) {
+			if (i < j) {
+				countTree.getAndAdd(i, -1);
+				i += i & -i;
+			} else {
+				countTree.getAndAdd(j, 1);
+				j += j & -j;
+			}
+		}
+	}
+
+	// Players with score <= the given score
+	private long prefixCount(int score) {
+		long sum = 0;
+		for (int i = score + 1; i > 0; i -= i & -i) {
+			sum += countTree.get(i);
+		}
+		return sum;
+	}
+
+	private void checkPlayer(int player) {
+		if (player < 0 || player >= capacity) {
+			throw new IllegalArgumentException("Unknown player " + player);
+		}
+	}
+
+	private void checkJoined(int player) {
+		checkPlayer(player);
+		if (joined.get(player) == 0) {
+			throw new IllegalArgumentException("Player " + player + " is not on the leaderboard");
+		}
+	}
+}
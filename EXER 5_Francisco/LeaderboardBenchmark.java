@@ -0,0 +1,166 @@
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Write-heavy load on the leaderboard: writer threads apply +1/-1 deltas while one
+ * reader keeps asking for ranks and the top 100. The baseline is the obvious
+ * synchronized score array that scans for ranks and sorts for the top 100.
+ */
+public class LeaderboardBenchmark {
+
+	public static void main(String[] args) throws InterruptedException {
+		int players = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+		int writers = args.length > 1 ? Integer.parseInt(args[1]) : 4;
+		long millis = 3_000;
+
+		System.out.println(players + " players, " + writers + " writer threads + 1 reader, " + millis / 1000 + " s each");
+		System.out.println("-----------------------------");
+
+		Leaderboard leaderboard = new Leaderboard(players);
+		for (int p = 0; p < players; p++) {
+			leaderboard.join(p);
+		}
+		run("Leaderboard (skip list + Fenwick)", players, writers, millis,
+			(player, delta) -> leaderboard.applyDelta(player, delta),
+			leaderboard::getRank,
+			() -> leaderboard.top(100, new int[100], new int[100]));
+
+		int[] plain = new int[players];
+		run("Synchronized array, scan/sort", players, writers, millis,
+			(player, delta) -> {
+				synchronized (plain) {
+					plain[player] = Math.max(0, plain[player] + delta);
+				}
+			},
+			player -> {
+				synchronized (plain) {
+					long higher = 0;
+					for (int score : plain) {
+						if (score > plain[player]) {
+							higher++;
+						}
+					}
+					return higher + 1;
+				}
+			},
+			() -> {
+				long[] keys = new long[players];
+				synchronized (plain) {
+					for (int p = 0; p < players; p++) {
+						keys[p] = ((long) (Integer.MAX_VALUE - plain[p]) << 32) | p;
+					}
+				}
+				Arrays.sort(keys);
+				return 100;
+			});
+
+		// Cross-check ranks against a full scan once writers have stopped
+		int[] check = new int[players];
+		for (int p = 0; p < players; p++) {
+			check[p] = leaderboard.getScore(p);
+		}
+		for (int p = 0; p < players; p += players / 100) {
+			long higher = 0;
+			for (int score : check) {
+				if (score > check[p]) {
+					higher++;
+				}
+			}
+			if (leaderboard.getRank(p) != higher + 1) {
+				throw new IllegalStateException("Rank mismatch for player " + p);
+			}
+		}
+		checkOrder(leaderboard, players);
+		int[] topPlayers = new int[3];
+		int[] topScores = new int[3];
+		leaderboard.top(3, topPlayers, topScores);
+		System.out.printf("%nLeaders: #%d (%d), #%d (%d), #%d (%d); ranks verified against a full scan%n",
+			topPlayers[0], topScores[0], topPlayers[1], topScores[1], topPlayers[2], topScores[2]);
+
+		// Few players and many writers, so updates to the same player really overlap
+		Leaderboard hot = new Leaderboard(8);
+		for (int p = 0; p < 8; p++) {
+			hot.join(p);
+		}
+		run("Leaderboard, 8 contended players", 8, writers, 1_000,
+			(player, delta) -> hot.applyDelta(player, delta),
+			hot::getRank,
+			() -> hot.top(8, new int[8], new int[8]));
+		checkOrder(hot, 8);
+		System.out.println("Every joined player is listed exactly once, with its current score");
+	}
+
+	/**
+	 * Every joined player must appear exactly once in the full listing, with its current score.
+	 */
+	private static void checkOrder(Leaderboard leaderboard, int players) {
+		int[] listed = new int[players + 1];
+		int[] listedScores = new int[players + 1];
+		int n = leaderboard.top(players + 1, listed, listedScores);
+		if (n != players) {
+			throw new IllegalStateException("Leaderboard lists " + n + " entries for " + players + " players");
+		}
+		boolean[] seen = new boolean[players];
+		for (int i = 0; i < n; i++) {
+			int p = listed[i];
+			if (seen[p] || listedScores[i] != leaderboard.getScore(p)) {
+				throw new IllegalStateException("Player " + p + " is listed twice or with a stale score");
+			}
+			seen[p] = true;
+		}
+	}
+
+	interface Writer {
+		void apply(int player, int delta);
+	}
+
+	interface RankQuery {
+		long rank(int player);
+	}
+
+	interface TopQuery {
+		int top();
+	}
+
+	private static void run(String label, int players, int writers, long millis, Writer writer, RankQuery rank, TopQuery top)
+			throws InterruptedException {
+		LongAdder updates = new LongAdder();
+		long deadline = System.nanoTime() + millis * 1_000_000L;
+		Thread[] threads = new Thread[writers];
+		for (int w = 0; w < writers; w++) {
+			int seed = w;
+			threads[w] = new Thread(() -> {
+				SplittableRandom random = new SplittableRandom(seed);
+				int done = 0;
+				while ((done & 1023) != 0 || System.nanoTime() < deadline) {
+					// Mostly correct answers, like a real game
+					writer.apply(random.nextInt(players), random.nextInt(10) < 8 ? 1 : -1);
+					done++;
+				}
+				updates.add(done);
+			});
+			threads[w].start();
+		}
+
+		RoundTimer rankTimer = new RoundTimer();
+		RoundTimer topTimer = new RoundTimer();
+		SplittableRandom random = new SplittableRandom(99);
+		long checksum = 0;
+		while (System.nanoTime() < deadline) {
+			long start = System.nanoTime();
+			checksum += rank.rank(random.nextInt(players));
+			rankTimer.record(System.nanoTime() - start);
+			start = System.nanoTime();
+			checksum += top.top();
+			topTimer.record(System.nanoTime() - start);
+			Thread.sleep(1);
+		}
+		for (Thread t : threads) {
+			t.join();
+		}
+		System.out.printf("%s: %,.0f updates/s (checksum %d)%n", label, updates.sum() / (millis / 1e3), checksum);
+		System.out.println("  rank of player: " + rankTimer.summary());
+		System.out.println("  top 100:        " + topTimer.summary());
+	}
+}
@@ -0,0 +1,49 @@
+/**
+ * The four operations offered by the game, with their input and display symbols.
+ */
+public enum Operation {
+	ADD("+", "+"),
+	SUBTRACT("-", "-"),
+	MULTIPLY("*", "\u00D7"),
+	DIVIDE("/", "\u00F7");
+
+	private static final Operation[] VALUES = values();
+
+	private final String key;
+	private final String symbol;
+
+	Operation(String key, String symbol) {
+		this.key = key;
+		this.symbol = symbol;
+	}
+
+	/**
+	 * Selector value used by the operation combo box ("+", "-", "*", "/").
+	 */
+	public String getKey() {
+		return key;
+	}
+
+	/**
+	 * Symbol shown to the player (the multiplication and division signs for * and /).
+	 */
+	public String getSymbol() {
+		return symbol;
+	}
+
+	/**
+	 * Looks up an operation by selector value; "random" (or anything unknown) gives null.
+	 */
+	public static Operation fromKey(String key) {
+		for (Operation op : VALUES) {
+			if (op.key.equals(key)) {
+				return op;
+			}
+		}
+		return null;
+	}
+
+	static Operation byIndex(int index) {
+		return VALUES[index];
+	}
+}
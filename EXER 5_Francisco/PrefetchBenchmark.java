@@ -0,0 +1,86 @@
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+/**
+ * Simulates game rounds headlessly and measures the time the consumer thread
+ * spends getting each next problem, with and without the prefetch pool.
+ * The "expensive" source stands in for heavier problem types added later.
+ */
+public class PrefetchBenchmark {
+
+	public static void main(String[] args) throws InterruptedException {
+		int rounds = args.length > 0 ? Integer.parseInt(args[0]) : 2_000;
+		ProblemGenerator generator = new ProblemGenerator(42);
+		ProblemSource expensive = (operation, level) -> {
+			// Pretend each problem needs ~200 us of work (e.g. checking it against a worksheet)
+			long until = System.nanoTime() + 200_000;
+			Problem problem = generator.next(operation, level);
+			while (System.nanoTime() < until) {
+				Thread.onSpinWait();
+			}
+			return problem;
+		};
+
+		System.out.println(rounds + " rounds, 1 ms think time between rounds");
+		System.out.println("-----------------------------");
+		run("Inline, cheap problems", generator, rounds);
+		run("Inline, expensive problems", expensive, rounds);
+
+		ProblemPool cheapPool = new ProblemPool(generator, 64);
+		ProblemPool expensivePool = new ProblemPool(expensive, 64);
+		Thread.sleep(500); // let the worker fill the rings, as it does while the window opens
+		run("Prefetched, cheap problems", cheapPool, rounds);
+		run("Prefetched, expensive problems", expensivePool, rounds);
+		System.out.println("Pool misses: cheap " + cheapPool.getMisses() + ", expensive " + expensivePool.getMisses());
+		cheapPool.shutdown();
+		expensivePool.shutdown();
+		checkSharedPool(generator);
+	}
+
+	/**
+	 * Several threads drawing from one pool must never receive the same problem twice.
+	 */
+	private static void checkSharedPool(ProblemGenerator generator) throws InterruptedException {
+		ProblemPool pool = new ProblemPool(generator, 64);
+		int threads = 4;
+		int draws = 100_000;
+		Problem[][] drawn = new Problem[threads][draws];
+		Thread[] consumers = new Thread[threads];
+		for (int t = 0; t < threads; t++) {
+			Problem[] mine = drawn[t];
+			consumers[t] = new Thread(() -> {
+				for (int i = 0; i < draws; i++) {
+					mine[i] = pool.next(null, i % ProblemGenerator.LEVELS);
+				}
+			});
+			consumers[t].start();
+		}
+		for (Thread consumer : consumers) {
+			consumer.join();
+		}
+		pool.shutdown();
+		Set<Problem> distinct = Collections.newSetFromMap(new IdentityHashMap<>());
+		for (Problem[] mine : drawn) {
+			for (Problem problem : mine) {
+				if (problem == null || !distinct.add(problem)) {
+					throw new IllegalStateException("Shared pool handed out a problem twice");
+				}
+			}
+		}
+		System.out.println("Shared pool, " + threads + " consumers: " + distinct.size()
+				+ " distinct problems (" + pool.getMisses() + " generated inline)");
+	}
+
+	private static void run(String label, ProblemSource source, int rounds) throws InterruptedException {
+		RoundTimer timer = new RoundTimer();
+		long checksum = 0;
+		for (int i = 0; i < rounds; i++) {
+			long start = System.nanoTime();
+			checksum += source.next(null, i % ProblemGenerator.LEVELS).getAnswer();
+			timer.record(System.nanoTime() - start);
+			Thread.sleep(1); // the player reads feedback and answers
+		}
+		System.out.printf("%-32s %s (checksum %d)%n", label, timer.summary(), checksum);
+	}
+}
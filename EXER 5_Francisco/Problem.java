@@ -0,0 +1,44 @@
+/**
+ * One generated arithmetic problem and its answer.
+ */
+public final class Problem {
+	private final Operation operation;
+	private final int num1;
+	private final int num2;
+	private final int answer;
+
+	public Problem(Operation operation, int num1, int num2, int answer) {
+		this.operation = operation;
+		this.num1 = num1;
+		this.num2 = num2;
+		this.answer = answer;
+	}
+
+	public Operation getOperation() {
+		return operation;
+	}
+
+	public int getNum1() {
+		return num1;
+	}
+
+	public int getNum2() {
+		return num2;
+	}
+
+	public int getAnswer() {
+		return answer;
+	}
+
+	/**
+	 * Problem as displayed to the player, e.g. "12 + 7".
+	 */
+	public String getText() {
+		return num1 + " " + operation.getSymbol() + " " + num2;
+	}
+
+	@Override
+	public String toString() {
+		return getText() + " = " + answer;
+	}
+}
@@ -0,0 +1,43 @@
+/**
+ * A block of problems stored as parallel primitive arrays, used for worksheets.
+ */
+public final class ProblemBatch {
+	final byte[] operations;
+	final int[] num1;
+	final int[] num2;
+	final int[] answers;
+
+	ProblemBatch(int size) {
+		operations = new byte[size];
+		num1 = new int[size];
+		num2 = new int[size];
+		answers = new int[size];
+	}
+
+	public int size() {
+		return answers.length;
+	}
+
+	public Operation getOperation(int i) {
+		return Operation.byIndex(operations[i]);
+	}
+
+	public int getNum1(int i) {
+		return num1[i];
+	}
+
+	public int getNum2(int i) {
+		return num2[i];
+	}
+
+	public int getAnswer(int i) {
+		return answers[i];
+	}
+
+	/**
+	 * Materializes problem i as an object (allocates).
+	 */
+	public Problem get(int i) {
+		return new Problem(getOperation(i), num1[i], num2[i], answers[i]);
+	}
+}
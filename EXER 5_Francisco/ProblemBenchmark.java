@@ -0,0 +1,99 @@
+import java.util.Random;
+
+/**
+ * Compares the original per-problem generation (shared Random, String.format)
+ * with ProblemGenerator filling worksheet batches in parallel.
+ */
+public class ProblemBenchmark {
+
+	public static void main(String[] args) {
+		int count = args.length > 0 ? Integer.parseInt(args[0]) : 10_000_000;
+		int level = 1;
+		System.out.println("Generating " + count + " level " + (level + 1) + " problems (mixed operations)");
+		System.out.println("Cores: " + Runtime.getRuntime().availableProcessors());
+		System.out.println("-----------------------------");
+
+		// Baseline: what generateProblem() did per round (random operation), minus the Swing calls
+		Random random = new Random(42);
+		int[] ranges = ProblemGenerator.LEVEL_RANGES[level];
+		int baselineCount = count / 10;
+		long checksum = 0;
+		long start = System.nanoTime();
+		for (int i = 0; i < baselineCount; i++) {
+			String[] internalOperators = {"+", "-", "*", "/"};
+			String operator = internalOperators[random.nextInt(internalOperators.length)];
+			String symbol = operator.equals("*") ? "\u00D7" : (operator.equals("/") ? "\u00F7" : operator);
+			int num1 = 0, num2 = 0;
+			int currentAnswerValue = 0;
+			switch (operator) {
+				case "+":
+					num1 = getRandomInt(random, ranges[0], ranges[1]);
+					num2 = getRandomInt(random, ranges[2], ranges[3]);
+					currentAnswerValue = num1 + num2;
+					break;
+				case "-":
+					int resultSub = getRandomInt(random, ranges[4], ranges[5]);
+					num2 = getRandomInt(random, 5, ranges[6]);
+					num1 = resultSub + num2;
+					currentAnswerValue = resultSub;
+					break;
+				case "*":
+					num1 = getRandomInt(random, ranges[7], ranges[8]);
+					num2 = getRandomInt(random, ranges[9], ranges[10]);
+					currentAnswerValue = num1 * num2;
+					break;
+				case "/":
+					int result = getRandomInt(random, 2, ranges[11]);
+					num2 = getRandomInt(random, 2, ranges[12]);
+					num1 = result * num2;
+					currentAnswerValue = result;
+					break;
+			}
+			checksum += String.format("%d %s %d", num1, symbol, num2).length() + currentAnswerValue;
+		}
+		report("Shared Random + String.format", baselineCount, System.nanoTime() - start);
+
+		ProblemGenerator generator = new ProblemGenerator(42);
+		start = System.nanoTime();
+		for (int i = 0; i < baselineCount; i++) {
+			checksum += generator.next(null, level).getAnswer();
+		}
+		report("ProblemGenerator.next", baselineCount, System.nanoTime() - start);
+
+		long best = Long.MAX_VALUE;
+		ProblemBatch batch = null;
+		for (int r = 0; r < 3; r++) {
+			start = System.nanoTime();
+			batch = generator.generateBatch(null, level, count);
+			best = Math.min(best, System.nanoTime() - start);
+		}
+		report("ProblemGenerator.generateBatch", count, best);
+
+		// Sanity check: every generated answer must be correct
+		for (int i = 0; i < batch.size(); i++) {
+			int a = batch.getNum1(i);
+			int b = batch.getNum2(i);
+			int expected;
+			switch (batch.getOperation(i)) {
+				case ADD: expected = a + b; break;
+				case SUBTRACT: expected = a - b; break;
+				case MULTIPLY: expected = a * b; break;
+				default: expected = a / b; break;
+			}
+			if (expected != batch.getAnswer(i) || (batch.getOperation(i) == Operation.DIVIDE && a % b != 0)) {
+				throw new IllegalStateException("Bad problem: " + batch.get(i));
+			}
+		}
+		System.out.println("\nSample: " + batch.get(0).getText() + "   (checksum " + checksum + ")");
+	}
+
+	// Same as ArithmeticGameGUI.getRandomInt
+	private static int getRandomInt(Random random, int min, int max) {
+		if (min > max) return min; // Safety check
+		return random.nextInt(max - min + 1) + min;
+	}
+
+	private static void report(String label, int count, long nanos) {
+		System.out.printf("%-32s %8.1f ms   %6.1f M problems/s%n", label, nanos / 1e6, count / (nanos / 1e9) / 1e6);
+	}
+}
@@ -0,0 +1,144 @@
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/**
+ * Headless, thread-safe arithmetic problem generator.
+ * Every thread draws from its own SplittableRandom, so no state is shared between callers.
+ */
+public class ProblemGenerator implements ProblemSource {
+
+	// --- Difficulty Settings ---
+	// Structure per Level (13 parameters):
+	// + (min1, max1, min2, max2) [0-3]
+	// - (minResult, maxResult, maxSubtrahend) [4-6]
+	// * (min1, max1, min2, max2) [7-10]
+	// / (resultMax, divisorMax) [11-12]
+	static final int[][] LEVEL_RANGES = {
+		// Level 1: Easy
+		{1, 20, 1, 20, 5, 15, 20, 1, 9, 1, 5, 10, 10},
+		// Level 2: Medium
+		{20, 99, 10, 99, 10, 50, 99, 5, 15, 5, 15, 15, 15},
+		// Level 3: Difficult
+		{100, 500, 100, 500, 50, 200, 500, 10, 25, 10, 25, 20, 20}
+	};
+
+	public static final int LEVELS = LEVEL_RANGES.length;
+
+	// Problems per parallel task when filling a worksheet batch
+	private static final int BLOCK_SIZE = 16_384;
+
+	private final SplittableRandom root;
+	private final ThreadLocal<SplittableRandom> perThread;
+
+	public ProblemGenerator() {
+		this(new SplittableRandom());
+	}
+
+	public ProblemGenerator(long seed) {
+		this(new SplittableRandom(seed));
+	}
+
+	private ProblemGenerator(SplittableRandom root) {
+		this.root = root;
+		this.perThread = ThreadLocal.withInitial(this::split);
+	}
+
+	private synchronized SplittableRandom split() {
+		return root.split();
+	}
+
+	/**
+	 * Generates one problem for a 0-indexed level; a null operation picks one at random.
+	 */
+	@Override
+	public Problem next(Operation operation, int level) {
+		return next(operation, LEVEL_RANGES[level]);
+	}
+
+	/**
+	 * Generates one problem from a custom 13-parameter range row (same layout as LEVEL_RANGES).
+	 */
+	public Problem next(Operation operation, int[] ranges) {
+		SplittableRandom random = perThread.get();
+		int op = operation != null ? operation.ordinal() : random.nextInt(4);
+		int[] values = new int[3];
+		generate(op, ranges, random, values);
+		return new Problem(Operation.byIndex(op), values[0], values[1], values[2]);
+	}
+
+	/**
+	 * Picks one of the four operations from this generator's random stream, so seeded
+	 * generators stay reproducible for callers that choose the operation themselves.
+	 */
+	public Operation randomOperation() {
+		return Operation.byIndex(perThread.get().nextInt(4));
+	}
+
+	/**
+	 * Fills a worksheet batch of the given size in parallel; a null operation mixes all four.
+	 * Each block gets its own split of the generator, so no random state is shared.
+	 */
+	public ProblemBatch generateBatch(Operation operation, int level, int count) {
+		ProblemBatch batch = new ProblemBatch(count);
+		int blocks = (count + BLOCK_SIZE - 1) / BLOCK_SIZE;
+		SplittableRandom[] randoms = new SplittableRandom[blocks];
+		for (int b = 0; b < blocks; b++) {
+			randoms[b] = split();
+		}
+		int[] ranges = LEVEL_RANGES[level];
+		IntStream.range(0, blocks).parallel().forEach(b ->
+			fill(batch, b * BLOCK_SIZE, Math.min(count, (b + 1) * BLOCK_SIZE), operation, ranges, randoms[b]));
+		return batch;
+	}
+
+	private static void fill(ProblemBatch batch, int from, int to, Operation operation, int[] ranges, SplittableRandom random) {
+		int[] values = new int[3];
+		for (int i = from; i < to; i++) {
+			int op = operation != null ? operation.ordinal() : random.nextInt(4);
+			generate(op, ranges, random, values);
+			batch.operations[i] = (byte) op;
+			batch.num1[i] = values[0];
+			batch.num2[i] = values[1];
+			batch.answers[i] = values[2];
+		}
+	}
+
+	/**
+	 * Draws one problem for an operation ordinal into values as {num1, num2, answer}.
+	 * Shared by next() and the batch fill so both produce the same problems.
+	 */
+	private static void generate(int op, int[] ranges, SplittableRandom random, int[] values) {
+		int num1;
+		int num2;
+		int answer;
+		if (op == 0) {
+			num1 = randomInt(random, ranges[0], ranges[1]);
+			num2 = randomInt(random, ranges[2], ranges[3]);
+			answer = num1 + num2;
+		} else if (op == 1) {
+			answer = randomInt(random, ranges[4], ranges[5]);
+			num2 = randomInt(random, 5, ranges[6]);
+			num1 = answer + num2;
+		} else if (op == 2) {
+			num1 = randomInt(random, ranges[7], ranges[8]);
+			num2 = randomInt(random, ranges[9], ranges[10]);
+			answer = num1 * num2;
+		} else {
+			// Dividend is product of result and divisor, so division is always exact
+			answer = randomInt(random, 2, ranges[11]);
+			num2 = randomInt(random, 2, ranges[12]);
+			num1 = answer * num2;
+		}
+		values[0] = num1;
+		values[1] = num2;
+		values[2] = answer;
+	}
+
+	/**
+	 * Helper to get a random integer in a range (inclusive).
+	 */
+	static int randomInt(SplittableRandom random, int min, int max) {
+		if (min > max) return min; // Safety check
+		return random.nextInt(min, max + 1);
+	}
+}
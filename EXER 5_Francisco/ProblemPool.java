@@ -0,0 +1,141 @@
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Keeps a ring buffer of ready problems for every (operation, level) pair,
+ * refilled by a background worker thread. Consumers (normally the EDT, but any
+ * number of threads may share a pool) pop the next problem in O(1) and never
+ * wait for generation.
+ */
+public class ProblemPool implements ProblemSource {
+	private static final int OPERATION_SLOTS = Operation.values().length + 1; // last slot = random
+
+	private final ProblemSource source;
+	private final Ring[] rings;
+	private final Thread worker;
+	private final AtomicLong misses = new AtomicLong();
+	private volatile boolean running = true;
+
+	public ProblemPool(ProblemSource source, int capacity) {
+		this.source = source;
+		this.rings = new Ring[OPERATION_SLOTS * ProblemGenerator.LEVELS];
+		for (int i = 0; i < rings.length; i++) {
+			rings[i] = new Ring(capacity);
+		}
+		worker = new Thread(this::refillLoop, "problem-prefetch");
+		worker.setDaemon(true);
+		worker.start();
+	}
+
+	/**
+	 * Pops a prefetched problem. Falls back to generating inline only if the ring is empty.
+	 */
+	@Override
+	public Problem next(Operation operation, int level) {
+		Ring ring = rings[slot(operation, level)];
+		Problem problem = ring.poll();
+		if (ring.needsRefill()) {
+			LockSupport.unpark(worker);
+		}
+		if (problem == null) {
+			misses.incrementAndGet();
+			return source.next(operation, level);
+		}
+		return problem;
+	}
+
+	/**
+	 * Number of times a problem had to be generated on the caller's thread.
+	 */
+	public long getMisses() {
+		return misses.get();
+	}
+
+	public int available(Operation operation, int level) {
+		return rings[slot(operation, level)].size();
+	}
+
+	public void shutdown() {
+		running = false;
+		LockSupport.unpark(worker);
+	}
+
+	private static int slot(Operation operation, int level) {
+		int op = operation == null ? OPERATION_SLOTS - 1 : operation.ordinal();
+		return level * OPERATION_SLOTS + op;
+	}
+
+	private void refillLoop() {
+		while (running) {
+			boolean filledAny = false;
+			for (int level = 0; level < ProblemGenerator.LEVELS; level++) {
+				for (int op = 0; op < OPERATION_SLOTS; op++) {
+					Ring ring = rings[level * OPERATION_SLOTS + op];
+					Operation operation = op == OPERATION_SLOTS - 1 ? null : Operation.byIndex(op);
+					// Only this thread adds, so a ring with room keeps it until the offer
+					while (running && ring.size() < ring.capacity()) {
+						ring.offer(source.next(operation, level));
+						filledAny = true;
+					}
+				}
+			}
+			if (!filledAny) {
+				LockSupport.park(this);
+			}
+		}
+	}
+
+	/**
+	 * Single-producer / multi-consumer ring. Consumers claim a slot by moving head with
+	 * a CAS; a slot is only rewritten once head has passed it, so a consumer that read an
+	 * overwritten slot always loses its CAS and retries. Slots are not cleared after a
+	 * poll, which would race with the producer, so up to capacity old problems stay reachable.
+	 */
+	private static final class Ring {
+		private final Problem[] items;
+		private final int mask;
+		private final AtomicLong head = new AtomicLong(); // next slot to read
+		private final AtomicLong tail = new AtomicLong(); // next slot to write
+
+		Ring(int capacity) {
+			int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+			items = new Problem[size];
+			mask = size - 1;
+		}
+
+		boolean offer(Problem problem) {
+			long t = tail.get();
+			if (t - head.get() >= items.length) {
+				return false;
+			}
+			items[(int) t & mask] = problem;
+			tail.lazySet(t + 1); // publishes the slot write
+			return true;
+		}
+
+		Problem poll() {
+			while (true) {
+				long h = head.get();
+				if (h >= tail.get()) {
+					return null;
+				}
+				Problem problem = items[(int) h & mask];
+				if (head.compareAndSet(h, h + 1)) {
+					return problem;
+				}
+			}
+		}
+
+		int capacity() {
+			return items.length;
+		}
+
+		int size() {
+			return (int) (tail.get() - head.get());
+		}
+
+		boolean needsRefill() {
+			return size() < items.length / 2;
+		}
+	}
+}
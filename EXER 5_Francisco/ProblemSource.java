@@ -0,0 +1,7 @@
+/**
+ * Anything that can produce a problem for an operation (null = random) and 0-indexed level.
+ */
+@FunctionalInterface
+public interface ProblemSource {
+	Problem next(Operation operation, int level);
+}
@@ -0,0 +1,44 @@
+/**
+ * Records how long each round keeps the calling thread busy (e.g. the EDT in generateProblem()).
+ * Log2 buckets in nanoseconds give percentiles without storing every sample.
+ */
+public class RoundTimer {
+	private final long[] buckets = new long[64];
+	private long count;
+	private long totalNanos;
+	private long maxNanos;
+
+	public synchronized void record(long nanos) {
+		buckets[63 - Long.numberOfLeadingZeros(Math.max(1, nanos))]++;
+		count++;
+		totalNanos += nanos;
+		maxNanos = Math.max(maxNanos, nanos);
+	}
+
+	public synchronized long getCount() {
+		return count;
+	}
+
+	/**
+	 * Upper bound of the bucket holding quantile q (0..1), in nanoseconds.
+	 */
+	public synchronized long percentile(double q) {
+		long rank = Math.max(1, (long) Math.ceil(q * count));
+		long seen = 0;
+		for (int i = 0; i < buckets.length; i++) {
+			seen += buckets[i];
+			if (seen >= rank) {
+				return Math.min(maxNanos, (2L << i) - 1);
+			}
+		}
+		return maxNanos;
+	}
+
+	public synchronized String summary() {
+		if (count == 0) {
+			return "No rounds recorded";
+		}
+		return String.format("%d rounds, mean %.1f us, p50 <= %.1f us, p99 <= %.1f us, max %.1f us",
+			count, totalNanos / 1e3 / count, percentile(0.50) / 1e3, percentile(0.99) / 1e3, maxNanos / 1e3);
+	}
+}
@@ -0,0 +1,239 @@
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Game state for many players at once, one slot per player id.
+ * The current problem of a player is packed into a single long
+ * (round number, operation and both operands), so checking an answer and
+ * moving on to the next problem is one compare-and-set: no locks on the answer path.
+ * Slots freed by leave() are handed out again by later joins.
+ * Adaptive players first claim the round, record the answer and only then draw the next
+ * problem, so it is drawn once, at the updated difficulty.
+ */
+public class SessionEngine {
+	public static final int CORRECT = 0;
+	public static final int WRONG = 1;
+	public static final int STALE = 2; // answer for a round that is already over
+	public static final int ADAPTIVE = -1; // join level for adaptive difficulty
+
+	private static final int OPERAND_BITS = 23;
+	private static final long OPERAND_MASK = (1L << OPERAND_BITS) - 1;
+	private static final long OP_MASK = 3;
+
+	private final int capacity;
+	private final ProblemSource problems;
+	private final GameMetrics metrics = new GameMetrics();
+	private final Leaderboard leaderboard;
+	private final AdaptiveDifficulty adaptive;
+	private final AtomicLongArray dealtAt; // nanoTime the current problem was dealt (adaptive players)
+	private final AtomicIntegerArray openRound; // round whose answer is not recorded yet (adaptive players)
+	private final AtomicInteger activePlayers = new AtomicInteger();
+	private final int[] freeIds;          // left players' slots, guarded by itself
+	private int freeCount;
+	private volatile int issued;          // slots ever handed out; written under freeIds
+	private final byte[] levels;
+	private final AtomicLongArray state;  // round (16 bits) | op (2 bits) | num1 (23 bits) | num2 (23 bits)
+
+	public SessionEngine(int capacity, ProblemSource problems) {
+		this(capacity, problems, null);
+	}
+
+	/**
+	 * Engine that also accepts ADAPTIVE players, whose problems come from the given generator.
+	 */
+	public SessionEngine(int capacity, ProblemSource problems, ProblemGenerator adaptiveGenerator) {
+		this.capacity = capacity;
+		this.problems = problems;
+		this.levels = new byte[capacity];
+		this.freeIds = new int[capacity];
+		this.state = new AtomicLongArray(capacity);
+		this.leaderboard = new Leaderboard(capacity);
+		this.adaptive = adaptiveGenerator == null ? null : new AdaptiveDifficulty(capacity, adaptiveGenerator);
+		this.dealtAt = adaptiveGenerator == null ? null : new AtomicLongArray(capacity);
+		this.openRound = adaptiveGenerator == null ? null : new AtomicIntegerArray(capacity);
+	}
+
+	/**
+	 * Registers a player at a 0-indexed level (or ADAPTIVE) and deals the first problem.
+	 */
+	public int join(int level) {
+		if (level == ADAPTIVE && adaptive == null) {
+			throw new IllegalArgumentException("Adaptive difficulty is not enabled on this server");
+		}
+		if (level != ADAPTIVE && (level < 0 || level >= ProblemGenerator.LEVELS)) {
+			throw new IllegalArgumentException("Level must be between 1 and " + ProblemGenerator.LEVELS);
+		}
+		int player;
+		synchronized (freeIds) {
+			if (freeCount > 0) {
+				player = freeIds[--freeCount];
+			} else if (issued < capacity) {
+				player = issued++;
+			} else {
+				throw new IllegalStateException("Server is full (" + capacity + " players)");
+			}
+		}
+		levels[player] = (byte) level;
+		leaderboard.join(player);
+		if (level == ADAPTIVE) {
+			adaptive.reset(player);
+			dealtAt.set(player, System.nanoTime());
+			openRound.set(player, 0);
+		}
+		state.set(player, pack(0, nextProblem(player)));
+		activePlayers.incrementAndGet();
+		return player;
+	}
+
+	/**
+	 * Frees a player's slot for a later join. The player must not be answering at the same time.
+	 */
+	public void leave(int player) {
+		checkPlayer(player);
+		if (state.getAndSet(player, 0) == 0) {
+			return;
+		}
+		leaderboard.leave(player);
+		activePlayers.decrementAndGet();
+		synchronized (freeIds) {
+			freeIds[freeCount++] = player;
+		}
+	}
+
+	/**
+	 * Checks an answer for the given round and, if that round is still open, deals the next problem.
+	 * Returns a packed result: outcome() gives CORRECT, WRONG or STALE, and expected() the answer
+	 * to the problem this call actually checked (0 when STALE).
+	 */
+	public long answer(int player, int round, int value) {
+		long start = System.nanoTime();
+		checkPlayer(player);
+		int outcome;
+		int expected = 0;
+		while (true) {
+			long current = state.get(player);
+			if (current == 0) {
+				throw new IllegalArgumentException("Player " + player + " has left");
+			}
+			if (round(current) != (round & 0xFFFF)) {
+				outcome = STALE;
+				break;
+			}
+			if (levels[player] == ADAPTIVE) {
+				// Only the answer that claims the round records it; a second answer to the same
+				// round waits here until the winner has dealt the next problem, then is STALE
+				if (!openRound.compareAndSet(player, round(current), (round(current) + 1) & 0xFFFF)) {
+					Thread.onSpinWait();
+					continue;
+				}
+				long now = System.nanoTime();
+				long millis = (now - dealtAt.getAndSet(player, now)) / 1_000_000;
+				adaptive.record(player, operation(current), value == answerOf(current), millis);
+			}
+			// Fails only for a racing answer to a non-adaptive round, or when the player left
+			if (state.compareAndSet(player, current, pack(round(current) + 1, nextProblem(player)))) {
+				expected = answerOf(current);
+				// The leaderboard holds the scores; like the single-player game it never goes below zero
+				if (value == expected) {
+					leaderboard.applyDelta(player, 1);
+					outcome = CORRECT;
+				} else {
+					leaderboard.applyDelta(player, -1);
+					outcome = WRONG;
+				}
+				break;
+			}
+		}
+		metrics.recordAnswer(outcome, System.nanoTime() - start);
+		return (long) expected << 32 | outcome;
+	}
+
+	public static int outcome(long result) {
+		return (int) result;
+	}
+
+	public static int expected(long result) {
+		return (int) (result >> 32);
+	}
+
+	/**
+	 * Packed current problem of a player; decode with round(), operation(), num1() and num2().
+	 */
+	public long currentProblem(int player) {
+		checkPlayer(player);
+		return state.get(player);
+	}
+
+	public int getScore(int player) {
+		checkPlayer(player);
+		return leaderboard.getScore(player);
+	}
+
+	public int getPlayerCount() {
+		return activePlayers.get();
+	}
+
+	/**
+	 * Per-player difficulty statistics, or null when adaptive mode is not enabled.
+	 */
+	public AdaptiveDifficulty getAdaptiveDifficulty() {
+		return adaptive;
+	}
+
+	public Leaderboard getLeaderboard() {
+		return leaderboard;
+	}
+
+	public GameMetrics getMetrics() {
+		return metrics;
+	}
+
+	public static int round(long packed) {
+		return (int) (packed >>> 48);
+	}
+
+	public static Operation operation(long packed) {
+		return Operation.byIndex((int) ((packed >>> (2 * OPERAND_BITS)) & OP_MASK));
+	}
+
+	public static int num1(long packed) {
+		return (int) ((packed >>> OPERAND_BITS) & OPERAND_MASK);
+	}
+
+	public static int num2(long packed) {
+		return (int) (packed & OPERAND_MASK);
+	}
+
+	/**
+	 * Answer to a packed problem, recomputed from its operands.
+	 */
+	public static int answerOf(long packed) {
+		int a = num1(packed);
+		int b = num2(packed);
+		switch (operation(packed)) {
+			case ADD: return a + b;
+			case SUBTRACT: return a - b;
+			case MULTIPLY: return a * b;
+			default: return a / b;
+		}
+	}
+
+	private Problem nextProblem(int player) {
+		int level = levels[player];
+		return level == ADAPTIVE ? adaptive.next(player, null) : problems.next(null, level);
+	}
+
+	private static long pack(int round, Problem problem) {
+		return ((long) (round & 0xFFFF) << 48)
+			| ((long) problem.getOperation().ordinal() << (2 * OPERAND_BITS))
+			| ((long) problem.getNum1() << OPERAND_BITS)
+			| problem.getNum2();
+	}
+
+	private void checkPlayer(int player) {
+		if (player < 0 || player >= issued || state.get(player) == 0) {
+			throw new IllegalArgumentException("Unknown player " + player);
+		}
+	}
+}
@@ -37,6 +37,43 @@ public class Car {
         this.height = height;
     }
 
+    // Getters used by the inventory indexes
+    public String getBrand() {
+        return brand;
+    }
+
+    public String getLogo() {
+        return logo;
+    }
+
+    public String getOrigin() {
+        return origin;
+    }
+
+    public String getColor() {
+        return color;
+    }
+
+    public String getPlateNo() {
+        return plateNo;
+    }
+
+    public String getChassisNo() {
+        return chassisNo;
+    }
+
+    public double getPrice() {
+        return price;
+    }
+
+    public double getSpeed() {
+        return speed;
+    }
+
+    public double getHeight() {
+        return height;
+    }
+
     // Method to display car information
     public void displayInfo() {
         String info = "";
@@ -0,0 +1,255 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+
+public class CarAnalytics {
+    public static final int HISTOGRAM_BINS = 10;
+    private static final int CHUNK = 1 << 14; // cars per chunk in the grouping and copy passes
+
+    public enum GroupBy { ORIGIN, BRAND }
+
+    // Full recomputation over a catalog. Prices and speeds are copied into primitive arrays
+    // laid out group by group, then every group is summarized on the common fork-join pool.
+    public static Map<String, CarStats> summarize(List<Car> cars, GroupBy groupBy) {
+        int n = cars.size();
+        int chunks = Math.max(1, Math.min(n / CHUNK, ForkJoinPool.getCommonPoolParallelism() * 4));
+        int[] groupOf = new int[n];
+
+        // Each chunk numbers the groups it sees in first-seen order
+        String[][] chunkNames = new String[chunks][];
+        IntStream.range(0, chunks).parallel().forEach(c -> {
+            HashMap<String, int[]> ids = new HashMap<>();
+            ArrayList<String> names = new ArrayList<>();
+            for (int i = chunkStart(n, chunks, c), end = chunkStart(n, chunks, c + 1); i < end; i++) {
+                String name = groupName(cars.get(i), groupBy);
+                int[] id = ids.get(name);
+                if (id == null) {
+                    id = new int[] {names.size()};
+                    ids.put(name, id);
+                    names.add(name);
+                }
+                groupOf[i] = id[0];
+            }
+            chunkNames[c] = names.toArray(new String[0]);
+        });
+
+        // Only the distinct names are merged serially, in chunk order, so group ids match a serial pass
+        HashMap<String, int[]> ids = new HashMap<>();
+        String[] names = new String[16];
+        int groups = 0;
+        int[][] globalId = new int[chunks][];
+        for (int c = 0; c < chunks; c++) {
+            globalId[c] = new int[chunkNames[c].length];
+            for (int local = 0; local < chunkNames[c].length; local++) {
+                String name = chunkNames[c][local];
+                int[] id = ids.get(name);
+                if (id == null) {
+                    id = new int[] {groups};
+                    ids.put(name, id);
+                    if (groups == names.length) {
+                        names = Arrays.copyOf(names, groups * 2);
+                    }
+                    names[groups++] = name;
+                }
+                globalId[c][local] = id[0];
+            }
+        }
+
+        // Counting sort by group: start[g] .. start[g + 1] holds group g, and within it
+        // each chunk writes from its own offset, so the copy pass runs per chunk too
+        int groupCount = groups;
+        int[][] counts = new int[chunks][];
+        IntStream.range(0, chunks).parallel().forEach(c -> {
+            int[] count = new int[groupCount];
+            for (int i = chunkStart(n, chunks, c), end = chunkStart(n, chunks, c + 1); i < end; i++) {
+                groupOf[i] = globalId[c][groupOf[i]];
+                count[groupOf[i]]++;
+            }
+            counts[c] = count;
+        });
+        int[] start = new int[groups + 1];
+        int[][] offsets = new int[chunks][groups];
+        for (int g = 0; g < groups; g++) {
+            int slot = start[g];
+            for (int c = 0; c < chunks; c++) {
+                offsets[c][g] = slot;
+                slot += counts[c][g];
+            }
+            start[g + 1] = slot;
+        }
+        double[] prices = new double[n];
+        double[] speeds = new double[n];
+        IntStream.range(0, chunks).parallel().forEach(c -> {
+            int[] next = offsets[c];
+            for (int i = chunkStart(n, chunks, c), end = chunkStart(n, chunks, c + 1); i < end; i++) {
+                int slot = next[groupOf[i]]++;
+                Car car = cars.get(i);
+                prices[slot] = car.getPrice();
+                speeds[slot] = car.getSpeed();
+            }
+        });
+
+        // Histograms share catalog-wide bin edges so groups can be compared side by side
+        double minPrice = DoubleStream.of(prices).parallel().min().orElse(0);
+        double maxPrice = DoubleStream.of(prices).parallel().max().orElse(0);
+        double minSpeed = DoubleStream.of(speeds).parallel().min().orElse(0);
+        double maxSpeed = DoubleStream.of(speeds).parallel().max().orElse(0);
+
+        String[] groupNames = names;
+        CarStats[] stats = new CarStats[groups];
+        IntStream.range(0, groups).parallel().forEach(g -> {
+            int from = start[g];
+            int to = start[g + 1];
+            Arrays.parallelSort(prices, from, to);
+            Arrays.parallelSort(speeds, from, to);
+            stats[g] = new CarStats(groupNames[g], to - from,
+                    Arrays.stream(prices, from, to).sum() / (to - from),
+                    Arrays.stream(speeds, from, to).sum() / (to - from),
+                    percentiles(prices, from, to),
+                    percentiles(speeds, from, to),
+                    histogram(prices, from, to, minPrice, maxPrice),
+                    histogram(speeds, from, to, minSpeed, maxSpeed));
+        });
+
+        // Largest groups first
+        Arrays.sort(stats, (a, b) -> Integer.compare(b.getCount(), a.getCount()));
+        LinkedHashMap<String, CarStats> result = new LinkedHashMap<>();
+        for (CarStats s : stats) {
+            result.put(s.getGroup(), s);
+        }
+        return result;
+    }
+
+    private static int chunkStart(int n, int chunks, int c) {
+        return (int) ((long) n * c / chunks);
+    }
+
+    static String groupName(Car car, GroupBy groupBy) {
+        return groupBy == GroupBy.ORIGIN ? car.getOrigin() : car.getBrand();
+    }
+
+    // Nearest-rank percentiles from an already sorted range
+    private static double[] percentiles(double[] sorted, int from, int to) {
+        double[] result = new double[CarStats.PERCENTILES.length];
+        int count = to - from;
+        for (int i = 0; i < result.length; i++) {
+            int rank = (int) Math.ceil(CarStats.PERCENTILES[i] * count);
+            result[i] = sorted[from + Math.max(0, rank - 1)];
+        }
+        return result;
+    }
+
+    private static long[] histogram(double[] values, int from, int to, double min, double max) {
+        long[] bins = new long[HISTOGRAM_BINS];
+        double width = (max - min) / HISTOGRAM_BINS;
+        for (int i = from; i < to; i++) {
+            int bin = width == 0 ? 0 : (int) ((values[i] - min) / width);
+            bins[Math.min(bin, HISTOGRAM_BINS - 1)]++;
+        }
+        return bins;
+    }
+
+    // Incremental view for the dashboard: each new, repriced or withdrawn listing updates
+    // its group in O(1) without touching the rest of the catalog. Quantiles are approximate.
+    // Cars are immutable, so a repriced listing is passed as the old and the new Car.
+    public static class Live {
+        private final GroupBy groupBy;
+        private final double relativeAccuracy;
+        private final ConcurrentHashMap<String, Group> groups = new ConcurrentHashMap<>();
+
+        public Live(GroupBy groupBy, double relativeAccuracy) {
+            this.groupBy = groupBy;
+            this.relativeAccuracy = relativeAccuracy;
+        }
+
+        public void record(Car car) {
+            Group group = groups.computeIfAbsent(groupName(car, groupBy), k -> new Group(relativeAccuracy));
+            group.count.increment();
+            group.priceSum.add(car.getPrice());
+            group.speedSum.add(car.getSpeed());
+            group.prices.add(car.getPrice());
+            group.speeds.add(car.getSpeed());
+        }
+
+        // The car must have been recorded before. If either sketch rejects it the group is left
+        // exactly as it was: the price is put back and count and sums change only after both succeed
+        public void remove(Car car) {
+            Group group = groups.get(groupName(car, groupBy));
+            if (group == null) {
+                throw new IllegalArgumentException("Car was never recorded: " + car.getPlateNo());
+            }
+            group.prices.remove(car.getPrice());
+            try {
+                group.speeds.remove(car.getSpeed());
+            } catch (IllegalArgumentException e) {
+                group.prices.add(car.getPrice());
+                throw e;
+            }
+            group.count.decrement();
+            group.priceSum.add(-car.getPrice());
+            group.speedSum.add(-car.getSpeed());
+        }
+
+        // Moves the listing to its new group too if the brand or origin changed
+        public void update(Car previous, Car current) {
+            remove(previous);
+            record(current);
+        }
+
+        public long getCount(String name) {
+            Group group = groups.get(name);
+            return group == null ? 0 : group.count.sum();
+        }
+
+        public double getMeanPrice(String name) {
+            Group group = groups.get(name);
+            return group == null ? Double.NaN : group.priceSum.sum() / group.count.sum();
+        }
+
+        public double getMeanSpeed(String name) {
+            Group group = groups.get(name);
+            return group == null ? Double.NaN : group.speedSum.sum() / group.count.sum();
+        }
+
+        public double getPriceQuantile(String name, double q) {
+            Group group = groups.get(name);
+            return group == null ? Double.NaN : group.prices.quantile(q);
+        }
+
+        public double getSpeedQuantile(String name, double q) {
+            Group group = groups.get(name);
+            return group == null ? Double.NaN : group.speeds.quantile(q);
+        }
+
+        // Catalog-wide price quantile, built by merging the per-group sketches
+        public double getOverallPriceQuantile(double q) {
+            QuantileSketch all = new QuantileSketch(relativeAccuracy);
+            for (Group group : groups.values()) {
+                all.merge(group.prices);
+            }
+            return all.quantile(q);
+        }
+
+        private static class Group {
+            final LongAdder count = new LongAdder();
+            final DoubleAdder priceSum = new DoubleAdder();
+            final DoubleAdder speedSum = new DoubleAdder();
+            final QuantileSketch prices;
+            final QuantileSketch speeds;
+
+            Group(double relativeAccuracy) {
+                prices = new QuantileSketch(relativeAccuracy);
+                speeds = new QuantileSketch(relativeAccuracy);
+            }
+        }
+    }
+}
@@ -0,0 +1,97 @@
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class CarAnalyticsBenchmark {
+    public static void main(String[] args) {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 2_000_000;
+        List<Car> catalog = CarInventoryBenchmark.generateCatalog(count, 42);
+        System.out.println("Catalog: " + count + " cars");
+        System.out.println("-----------------------------");
+
+        // Baseline: boxed lists per brand, sorted with Collections.sort
+        double baselineMs = Double.MAX_VALUE;
+        double baselineMedian = 0;
+        for (int r = 0; r < 3; r++) {
+            long start = System.nanoTime();
+            HashMap<String, List<Double>> byBrand = new HashMap<>();
+            for (Car car : catalog) {
+                byBrand.computeIfAbsent(car.getBrand(), k -> new ArrayList<>()).add(car.getPrice());
+            }
+            for (Map.Entry<String, List<Double>> e : byBrand.entrySet()) {
+                List<Double> prices = e.getValue();
+                Collections.sort(prices);
+                if (e.getKey().equals("Tesla")) {
+                    baselineMedian = prices.get((int) Math.ceil(0.5 * prices.size()) - 1);
+                }
+            }
+            baselineMs = Math.min(baselineMs, (System.nanoTime() - start) / 1e6);
+        }
+
+        double primitiveMs = Double.MAX_VALUE;
+        Map<String, CarStats> byBrand = null;
+        for (int r = 0; r < 3; r++) {
+            long start = System.nanoTime();
+            byBrand = CarAnalytics.summarize(catalog, CarAnalytics.GroupBy.BRAND);
+            primitiveMs = Math.min(primitiveMs, (System.nanoTime() - start) / 1e6);
+        }
+        if (byBrand.get("Tesla").getPricePercentile(0) != baselineMedian) {
+            throw new IllegalStateException("Median price disagrees with the baseline");
+        }
+        System.out.printf("Per-brand recompute, boxed lists:       %8.1f ms (price only)%n", baselineMs);
+        System.out.printf("Per-brand recompute, CarAnalytics:      %8.1f ms (price and speed)%n", primitiveMs);
+
+        Map<String, CarStats> byOrigin = CarAnalytics.summarize(catalog, CarAnalytics.GroupBy.ORIGIN);
+        System.out.println("\nBy origin:");
+        for (CarStats stats : byOrigin.values()) {
+            stats.displayInfo();
+        }
+
+        // Streaming: feed the same catalog one listing at a time
+        CarAnalytics.Live live = new CarAnalytics.Live(CarAnalytics.GroupBy.BRAND, 0.01);
+        long start = System.nanoTime();
+        for (Car car : catalog) {
+            live.record(car);
+        }
+        double perUpdateNs = (double) (System.nanoTime() - start) / count;
+        start = System.nanoTime();
+        double liveP90 = live.getPriceQuantile("Tesla", 0.90);
+        double queryUs = (System.nanoTime() - start) / 1e3;
+
+        double exactP90 = byBrand.get("Tesla").getPricePercentile(1);
+        System.out.println("\nStreaming sketches (1% relative accuracy):");
+        System.out.printf("  Update cost:        %.0f ns per listing%n", perUpdateNs);
+        System.out.printf("  Tesla p90 price:    sketch %.0f vs exact %.0f (%.2f%% off), answered in %.1f us%n",
+                liveP90, exactP90, 100 * Math.abs(liveP90 - exactP90) / exactP90, queryUs);
+        System.out.printf("  Catalog p50 price:  sketch %.0f%n", live.getOverallPriceQuantile(0.5));
+
+        // Reprice every tenth listing by 10% and check against a view built from scratch
+        List<Car> repriced = new ArrayList<>(catalog);
+        start = System.nanoTime();
+        int updates = 0;
+        for (int i = 0; i < repriced.size(); i += 10) {
+            Car old = repriced.get(i);
+            Car updated = new Car(old.getBrand(), old.getLogo(), old.getOrigin(), old.getColor(),
+                    old.getPlateNo(), old.getChassisNo(), old.getPrice() * 1.1, old.getSpeed(), old.getHeight());
+            live.update(old, updated);
+            repriced.set(i, updated);
+            updates++;
+        }
+        double perRepriceNs = (double) (System.nanoTime() - start) / updates;
+        CarAnalytics.Live fresh = new CarAnalytics.Live(CarAnalytics.GroupBy.BRAND, 0.01);
+        for (Car car : repriced) {
+            fresh.record(car);
+        }
+        for (String brand : new String[] {"Tesla", "Toyota"}) {
+            double mean = fresh.getMeanPrice(brand);
+            if (live.getCount(brand) != fresh.getCount(brand)
+                    || live.getPriceQuantile(brand, 0.9) != fresh.getPriceQuantile(brand, 0.9)
+                    || Math.abs(live.getMeanPrice(brand) - mean) > 1e-6 * mean) {
+                throw new IllegalStateException("Repriced view disagrees with a fresh one for " + brand);
+            }
+        }
+        System.out.printf("  Reprice cost:       %.0f ns per listing (%d listings, matches a fresh view)%n", perRepriceNs, updates);
+    }
+}
@@ -0,0 +1,340 @@
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+// Loads the CSV layout written by CarReportExporter:
+// Brand,Logo,Origin,Color,Plate No,Chassis No,Price (PHP),Speed,Height
+public class CarBulkLoader {
+    private static final int FIELDS = 9;
+    private static final long DEFAULT_CHUNK_BYTES = 32L * 1024 * 1024;
+    // A chunk can grow past chunkBytes when its end moves out of a quoted field,
+    // so leave headroom below the 2 GB a single mapping can cover
+    private static final long MAX_CHUNK_BYTES = 1L << 30;
+
+    private final ForkJoinPool pool;
+    private final long chunkBytes;
+
+    public CarBulkLoader(int threads, long chunkBytes) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("threads must be at least 1: " + threads);
+        }
+        if (chunkBytes < 1 || chunkBytes > MAX_CHUNK_BYTES) {
+            throw new IllegalArgumentException("chunkBytes must be between 1 and " + MAX_CHUNK_BYTES + ": " + chunkBytes);
+        }
+        this.pool = new ForkJoinPool(threads);
+        this.chunkBytes = chunkBytes;
+    }
+
+    public CarBulkLoader() {
+        this(Runtime.getRuntime().availableProcessors(), DEFAULT_CHUNK_BYTES);
+    }
+
+    public List<Car> load(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long[] bounds = chunkBounds(channel, size);
+
+            // Each chunk is mapped and parsed on its own thread; results keep file order
+            List<Future<List<Car>>> parts = new ArrayList<>();
+            for (int i = 0; i + 1 < bounds.length; i++) {
+                long from = bounds[i];
+                long to = bounds[i + 1];
+                parts.add(pool.submit(() -> parseChunk(channel.map(FileChannel.MapMode.READ_ONLY, from, to - from), from == 0)));
+            }
+            List<Car> cars = new ArrayList<>();
+            for (Future<List<Car>> part : parts) {
+                try {
+                    cars.addAll(part.get());
+                } catch (Exception e) {
+                    Throwable cause = e.getCause() == null ? e : e.getCause();
+                    if (cause instanceof IOException) {
+                        throw (IOException) cause;
+                    }
+                    throw new IOException("Failed to parse " + file, cause);
+                }
+            }
+            return cars;
+        }
+    }
+
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    // Chunk start offsets, each moved forward to just after a line break that ends a record.
+    // Quoted fields may hold line breaks, and every quote flips in and out of a field
+    // (an escaped "" flips twice), so the quote count before a split point says whether
+    // it lands inside one. The counts for the fixed split ranges are taken in parallel.
+    private long[] chunkBounds(FileChannel channel, long size) throws IOException {
+        int ranges = (int) Math.max(1, (size + chunkBytes - 1) / chunkBytes);
+        List<Future<Long>> counts = new ArrayList<>();
+        for (int i = 0; i < ranges; i++) {
+            long from = i * chunkBytes;
+            long to = Math.min(size, from + chunkBytes);
+            counts.add(pool.submit(() -> countQuotes(channel.map(FileChannel.MapMode.READ_ONLY, from, to - from))));
+        }
+        List<Long> bounds = new ArrayList<>();
+        bounds.add(0L);
+        long quotes = 0;
+        for (int i = 1; i < ranges; i++) {
+            quotes += await(counts.get(i - 1));
+            long lineStart = nextRecordStart(channel, i * chunkBytes, size, (quotes & 1) != 0);
+            if (lineStart >= size) {
+                break;
+            }
+            // A quoted field longer than a whole range ends where the previous search did
+            if (lineStart > bounds.get(bounds.size() - 1)) {
+                bounds.add(lineStart);
+            }
+        }
+        bounds.add(size);
+        long[] result = new long[bounds.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = bounds.get(i);
+        }
+        return result;
+    }
+
+    private static long countQuotes(MappedByteBuffer buf) {
+        long quotes = 0;
+        for (int i = 0; i < buf.limit(); i++) {
+            if (buf.get(i) == '"') {
+                quotes++;
+            }
+        }
+        return quotes;
+    }
+
+    private static long await(Future<Long> count) throws IOException {
+        try {
+            return count.get();
+        } catch (Exception e) {
+            Throwable cause = e.getCause() == null ? e : e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            throw new IOException("Failed to scan for quotes", cause);
+        }
+    }
+
+    private static long nextRecordStart(FileChannel channel, long from, long size, boolean inQuotes) throws IOException {
+        long window = 64 * 1024;
+        for (long pos = from; pos < size; pos += window) {
+            MappedByteBuffer buf = channel.map(FileChannel.MapMode.READ_ONLY, pos, Math.min(window, size - pos));
+            for (int i = 0; i < buf.limit(); i++) {
+                byte b = buf.get(i);
+                if (b == '"') {
+                    inQuotes = !inQuotes;
+                } else if (b == '\n' && !inQuotes) {
+                    return pos + i + 1;
+                }
+            }
+        }
+        return size;
+    }
+
+    // Parses whole lines straight from the mapped bytes. Numbers never become Strings,
+    // and repeated text (brand, logo, origin, color) is shared through a small per-chunk cache.
+    static List<Car> parseChunk(MappedByteBuffer buf, boolean mayHaveHeader) {
+        List<Car> cars = new ArrayList<>();
+        StringCache cache = new StringCache();
+        int[] start = new int[FIELDS];
+        int[] end = new int[FIELDS];
+        boolean[] quoted = new boolean[FIELDS];
+        int limit = buf.limit();
+        int pos = 0;
+        if (mayHaveHeader && startsWith(buf, "Brand,")) {
+            pos = skipLine(buf, 0, limit);
+        }
+        while (pos < limit) {
+            // Blank line, with or without a carriage return
+            if (buf.get(pos) == '\r' && (pos + 1 >= limit || buf.get(pos + 1) == '\n')) {
+                pos += 2;
+                continue;
+            }
+            int field = 0;
+            int lineEnd = pos;
+            // Split one line into field ranges
+            while (lineEnd < limit && buf.get(lineEnd) != '\n') {
+                if (field >= FIELDS) {
+                    throw new IllegalArgumentException("Too many fields at byte " + lineEnd);
+                }
+                if (buf.get(lineEnd) == '"') {
+                    quoted[field] = true;
+                    start[field] = ++lineEnd;
+                    while (lineEnd < limit && !(buf.get(lineEnd) == '"' && (lineEnd + 1 >= limit || buf.get(lineEnd + 1) != '"'))) {
+                        lineEnd += buf.get(lineEnd) == '"' ? 2 : 1;
+                    }
+                    end[field] = lineEnd++;
+                } else {
+                    quoted[field] = false;
+                    start[field] = lineEnd;
+                    while (lineEnd < limit && buf.get(lineEnd) != ',' && buf.get(lineEnd) != '\n' && buf.get(lineEnd) != '\r') {
+                        lineEnd++;
+                    }
+                    end[field] = lineEnd;
+                }
+                field++;
+                if (lineEnd < limit && buf.get(lineEnd) == ',') {
+                    lineEnd++;
+                } else if (lineEnd < limit && buf.get(lineEnd) == '\r') {
+                    lineEnd++;
+                }
+            }
+            if (field == FIELDS) {
+                cars.add(new Car(
+                        cache.get(buf, start[0], end[0], quoted[0]),
+                        cache.get(buf, start[1], end[1], quoted[1]),
+                        cache.get(buf, start[2], end[2], quoted[2]),
+                        cache.get(buf, start[3], end[3], quoted[3]),
+                        text(buf, start[4], end[4], quoted[4]),
+                        text(buf, start[5], end[5], quoted[5]),
+                        parseDouble(buf, start[6], end[6]),
+                        parseDouble(buf, start[7], end[7]),
+                        parseDouble(buf, start[8], end[8])));
+            } else if (field != 0) {
+                throw new IllegalArgumentException("Expected " + FIELDS + " fields but found " + field + " before byte " + lineEnd);
+            }
+            pos = lineEnd + 1;
+        }
+        return cars;
+    }
+
+    static String text(MappedByteBuffer buf, int from, int to, boolean quoted) {
+        byte[] bytes = new byte[to - from];
+        buf.get(from, bytes);
+        String s = new String(bytes, StandardCharsets.UTF_8);
+        return quoted ? s.replace("\"\"", "\"") : s;
+    }
+
+    // Decimal number with optional sign, fraction and exponent, read digit by digit.
+    // NaN and Infinity are accepted as CarReportExporter writes them.
+    static double parseDouble(MappedByteBuffer buf, int from, int to) {
+        int i = from;
+        boolean negative = false;
+        if (i < to && (buf.get(i) == '-' || buf.get(i) == '+')) {
+            negative = buf.get(i++) == '-';
+        }
+        if (i == from && sameText(buf, i, to, "NaN")) {
+            return Double.NaN;
+        }
+        if (sameText(buf, i, to, "Infinity")) {
+            return negative ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+        }
+        long mantissa = 0;
+        int scale = 0;
+        boolean fraction = false;
+        int digits = 0;
+        for (; i < to; i++) {
+            byte b = buf.get(i);
+            if (b >= '0' && b <= '9') {
+                if (mantissa < 100_000_000_000_000_000L) {
+                    mantissa = mantissa * 10 + (b - '0');
+                    if (fraction) {
+                        scale--;
+                    }
+                } else if (!fraction) {
+                    scale++;
+                }
+                digits++;
+            } else if (b == '.' && !fraction) {
+                fraction = true;
+            } else if (b == 'e' || b == 'E') {
+                int exponent = 0;
+                boolean negativeExponent = false;
+                i++;
+                if (i < to && (buf.get(i) == '-' || buf.get(i) == '+')) {
+                    negativeExponent = buf.get(i++) == '-';
+                }
+                for (; i < to; i++) {
+                    exponent = exponent * 10 + (buf.get(i) - '0');
+                }
+                scale += negativeExponent ? -exponent : exponent;
+                break;
+            } else {
+                throw new NumberFormatException("Bad number at byte " + i);
+            }
+        }
+        if (digits == 0) {
+            throw new NumberFormatException("Empty number at byte " + from);
+        }
+        double value = scale >= 0 ? mantissa * Math.pow(10, scale) : mantissa / Math.pow(10, -scale);
+        return negative ? -value : value;
+    }
+
+    private static boolean startsWith(MappedByteBuffer buf, String prefix) {
+        if (buf.limit() < prefix.length()) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length(); i++) {
+            if (buf.get(i) != prefix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean sameText(MappedByteBuffer buf, int from, int to, String text) {
+        if (to - from != text.length()) {
+            return false;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            if (buf.get(from + i) != text.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int skipLine(MappedByteBuffer buf, int pos, int limit) {
+        while (pos < limit && buf.get(pos) != '\n') {
+            pos++;
+        }
+        return pos + 1;
+    }
+
+    // Reuses one String per distinct byte sequence for low-cardinality columns
+    static class StringCache {
+        private static final int SIZE = 1024;
+        private final byte[][] keys = new byte[SIZE][];
+        private final String[] values = new String[SIZE];
+
+        String get(MappedByteBuffer buf, int from, int to, boolean quoted) {
+            if (quoted) {
+                return text(buf, from, to, true);
+            }
+            int hash = 1;
+            for (int i = from; i < to; i++) {
+                hash = 31 * hash + buf.get(i);
+            }
+            int slot = (hash ^ (hash >>> 16)) & (SIZE - 1);
+            byte[] key = keys[slot];
+            if (key != null && sameBytes(key, buf, from, to)) {
+                return values[slot];
+            }
+            String value = text(buf, from, to, false);
+            keys[slot] = value.getBytes(StandardCharsets.UTF_8);
+            values[slot] = value;
+            return value;
+        }
+
+        private static boolean sameBytes(byte[] key, MappedByteBuffer buf, int from, int to) {
+            if (key.length != to - from) {
+                return false;
+            }
+            for (int i = 0; i < key.length; i++) {
+                if (key[i] != buf.get(from + i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
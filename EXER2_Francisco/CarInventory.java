@@ -0,0 +1,411 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Queries share a read lock; add() takes the write lock. Cars added since the last query are
+// sorted on their own and merged into the sorted indexes in place by the first query that sees them.
+public class CarInventory {
+    private final ArrayList<Car> cars = new ArrayList<>();
+
+    // Sorted indexes: car positions ordered by price / speed, plus the sorted keys for binary search.
+    // Arrays keep spare room at the end; only the first indexedCount entries are valid.
+    private int[] byPrice = new int[0];
+    private double[] sortedPrices = new double[0];
+    private int[] bySpeed = new int[0];
+    private double[] sortedSpeeds = new double[0];
+
+    // Hash indexes: lower-case origin / brand -> car positions
+    private final HashMap<String, IntList> byOrigin = new HashMap<>();
+    private final HashMap<String, IntList> byBrand = new HashMap<>();
+
+    private int indexedCount; // cars [0, indexedCount) are in the sorted indexes
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public void add(Car car) {
+        lock.writeLock().lock();
+        try {
+            int id = cars.size();
+            cars.add(car);
+            byOrigin.computeIfAbsent(key(car.getOrigin()), k -> new IntList()).add(id);
+            byBrand.computeIfAbsent(key(car.getBrand()), k -> new IntList()).add(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void addAll(List<Car> newCars) {
+        lock.writeLock().lock();
+        try {
+            for (Car car : newCars) {
+                add(car);
+            }
+            mergePending();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return cars.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Car get(int id) {
+        lock.readLock().lock();
+        try {
+            return cars.get(id);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Brings the price and speed indexes up to date (done automatically before the next query)
+    public void buildIndexes() {
+        lock.writeLock().lock();
+        try {
+            mergePending();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<Car> query(CarQuery q) {
+        lock.readLock().lock();
+        try {
+            if (indexedCount < cars.size()) {
+                // Read locks cannot be upgraded: swap to the write lock, merge, then drop back
+                lock.readLock().unlock();
+                lock.writeLock().lock();
+                try {
+                    mergePending();
+                } finally {
+                    lock.readLock().lock();
+                    lock.writeLock().unlock();
+                }
+            }
+            return queryIndexed(q);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Caller holds the write lock. Sorts only the new cars, then merges them behind equal keys
+    // so ties stay in insertion order, exactly as a full stable rebuild would leave them.
+    private void mergePending() {
+        int n = cars.size();
+        int k = n - indexedCount;
+        if (k == 0) {
+            return;
+        }
+        double[] prices = new double[k];
+        double[] speeds = new double[k];
+        for (int i = 0; i < k; i++) {
+            prices[i] = cars.get(indexedCount + i).getPrice();
+            speeds[i] = cars.get(indexedCount + i).getSpeed();
+        }
+        int[] newByPrice = sortedOrder(prices);
+        int[] newBySpeed = sortedOrder(speeds);
+        double[] newPrices = keysInOrder(prices, newByPrice);
+        double[] newSpeeds = keysInOrder(speeds, newBySpeed);
+        for (int i = 0; i < k; i++) {
+            newByPrice[i] += indexedCount;
+            newBySpeed[i] += indexedCount;
+        }
+        if (byPrice.length < n) {
+            int capacity = Math.max(n, byPrice.length + (byPrice.length >> 1));
+            byPrice = Arrays.copyOf(byPrice, capacity);
+            sortedPrices = Arrays.copyOf(sortedPrices, capacity);
+            bySpeed = Arrays.copyOf(bySpeed, capacity);
+            sortedSpeeds = Arrays.copyOf(sortedSpeeds, capacity);
+        }
+        mergeInPlace(byPrice, sortedPrices, indexedCount, newByPrice, newPrices);
+        mergeInPlace(bySpeed, sortedSpeeds, indexedCount, newBySpeed, newSpeeds);
+        indexedCount = n;
+    }
+
+    // Merges the sorted new entries into order/keys[0, size) from the back, moving each run of
+    // larger old entries with one arraycopy. Equal keys: old entries stay in front of new ones.
+    private static void mergeInPlace(int[] order, double[] keys, int size, int[] newOrder, double[] newKeys) {
+        int oldEnd = size;
+        for (int j = newKeys.length - 1; j >= 0; j--) {
+            int split = firstAbove(keys, oldEnd, newKeys[j]);
+            System.arraycopy(order, split, order, split + j + 1, oldEnd - split);
+            System.arraycopy(keys, split, keys, split + j + 1, oldEnd - split);
+            order[split + j] = newOrder[j];
+            keys[split + j] = newKeys[j];
+            oldEnd = split;
+        }
+    }
+
+    // First position in sorted[0, size) whose key is above value in Double.compare order
+    private static int firstAbove(double[] sorted, int size, double value) {
+        int lo = 0;
+        int hi = size;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (Double.compare(sorted[mid], value) <= 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    private List<Car> queryIndexed(CarQuery q) {
+        // Pick the smallest candidate set among the indexes that apply
+        int[] candidates = null;
+        int from = 0;
+        int to = cars.size();
+        int best = Integer.MAX_VALUE;
+
+        if (q.origin != null) {
+            IntList list = byOrigin.get(key(q.origin));
+            if (list == null) {
+                return new ArrayList<>();
+            }
+            candidates = list.values();
+            from = 0;
+            to = list.size();
+            best = to;
+        }
+        if (q.brand != null) {
+            IntList list = byBrand.get(key(q.brand));
+            if (list == null) {
+                return new ArrayList<>();
+            }
+            if (list.size() < best) {
+                candidates = list.values();
+                from = 0;
+                to = list.size();
+                best = to;
+            }
+        }
+        int priceFrom = lowerBound(sortedPrices, 0, indexedCount, q.minPrice);
+        int priceTo = upperBound(sortedPrices, indexedCount, q.maxPrice);
+        if (priceTo - priceFrom < best) {
+            candidates = byPrice;
+            from = priceFrom;
+            to = priceTo;
+            best = to - from;
+        }
+        int speedFrom = lowerBound(sortedSpeeds, 0, indexedCount, q.minSpeed);
+        int speedTo = upperBound(sortedSpeeds, indexedCount, q.maxSpeed);
+        if (speedTo - speedFrom < best) {
+            candidates = bySpeed;
+            from = speedFrom;
+            to = speedTo;
+            best = to - from;
+        }
+
+        // For a small top-N, walking the sort index and stopping early beats sorting every candidate:
+        // about limit * (n / best) cars are visited before enough matches turn up
+        if (q.sortBy != CarQuery.SortBy.NONE && q.limit < best
+                && (double) q.limit * cars.size() / Math.max(1, best) < best) {
+            if (q.sortBy == CarQuery.SortBy.PRICE) {
+                candidates = byPrice;
+                from = priceFrom;
+                to = priceTo;
+            } else {
+                candidates = bySpeed;
+                from = speedFrom;
+                to = speedTo;
+            }
+        }
+
+        // An unsorted top-N from a key index would have to be re-sorted by id; when matches are
+        // dense enough, walking every car in insertion order and stopping early visits fewer
+        if (q.sortBy == CarQuery.SortBy.NONE && (candidates == byPrice || candidates == bySpeed)
+                && q.limit < best && (double) q.limit * cars.size() / Math.max(1, best) < best) {
+            ArrayList<Car> result = new ArrayList<>();
+            for (int id = 0; id < cars.size() && result.size() < q.limit; id++) {
+                Car car = cars.get(id);
+                if (q.matches(car)) {
+                    result.add(car);
+                }
+            }
+            return result;
+        }
+
+        // Already in the requested order if we walked the matching sorted index
+        boolean presorted = (q.sortBy == CarQuery.SortBy.PRICE && candidates == byPrice)
+                || (q.sortBy == CarQuery.SortBy.SPEED && candidates == bySpeed);
+        // Unsorted results come in insertion order, like scan(); the origin and brand lists
+        // already are, but the price and speed indexes must be walked fully and re-sorted by id
+        boolean byKeyIndex = candidates == byPrice || candidates == bySpeed;
+        boolean canStopEarly = presorted || (q.sortBy == CarQuery.SortBy.NONE && !byKeyIndex);
+
+        ArrayList<Car> result = new ArrayList<>();
+        if (presorted && q.descending) {
+            // Walk runs of equal keys from the top, each run forwards, so ties keep insertion order
+            double[] sortedKeys = candidates == byPrice ? sortedPrices : sortedSpeeds;
+            for (int runEnd = to; runEnd > from && result.size() < q.limit; ) {
+                int runStart = lowerBound(sortedKeys, from, runEnd - 1, sortedKeys[runEnd - 1]);
+                for (int pos = runStart; pos < runEnd && result.size() < q.limit; pos++) {
+                    Car car = cars.get(candidates[pos]);
+                    if (q.matches(car)) {
+                        result.add(car);
+                    }
+                }
+                runEnd = runStart;
+            }
+            return result;
+        }
+
+        int[] matched = new int[16];
+        int count = 0;
+        for (int pos = from; pos < to; pos++) {
+            if (q.matches(cars.get(candidates[pos]))) {
+                if (count == matched.length) {
+                    matched = Arrays.copyOf(matched, count * 2);
+                }
+                matched[count++] = candidates[pos];
+                if (canStopEarly && count >= q.limit) {
+                    break;
+                }
+            }
+        }
+        if (!presorted && (q.sortBy != CarQuery.SortBy.NONE || byKeyIndex)) {
+            // Insertion order first, then a stable sort by key: the same tie order scan() gives
+            Arrays.sort(matched, 0, count);
+        }
+        result.ensureCapacity(count);
+        for (int i = 0; i < count; i++) {
+            result.add(cars.get(matched[i]));
+        }
+        if (!presorted && q.sortBy != CarQuery.SortBy.NONE) {
+            result.sort((a, b) -> {
+                double ka = q.sortBy == CarQuery.SortBy.PRICE ? a.getPrice() : a.getSpeed();
+                double kb = q.sortBy == CarQuery.SortBy.PRICE ? b.getPrice() : b.getSpeed();
+                return q.descending ? Double.compare(kb, ka) : Double.compare(ka, kb);
+            });
+        }
+        if (result.size() > q.limit) {
+            return new ArrayList<>(result.subList(0, q.limit));
+        }
+        return result;
+    }
+
+    // Checks every car; used as the baseline in the benchmark
+    public List<Car> scan(CarQuery q) {
+        ArrayList<Car> result = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (Car car : cars) {
+                if (q.matches(car)) {
+                    result.add(car);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (q.sortBy != CarQuery.SortBy.NONE) {
+            result.sort((a, b) -> {
+                double ka = q.sortBy == CarQuery.SortBy.PRICE ? a.getPrice() : a.getSpeed();
+                double kb = q.sortBy == CarQuery.SortBy.PRICE ? b.getPrice() : b.getSpeed();
+                return q.descending ? Double.compare(kb, ka) : Double.compare(ka, kb);
+            });
+        }
+        return result.size() > q.limit ? new ArrayList<>(result.subList(0, q.limit)) : result;
+    }
+
+    private static String key(String value) {
+        return value == null ? "" : value.toLowerCase();
+    }
+
+    // Car positions sorted by key: sort a copy of the keys, then drop each position
+    // into the slot for its rank (equal keys keep insertion order). No boxing.
+    // Ranks use Double.compare, the same total order as Arrays.sort, so NaN keys sort last.
+    private static int[] sortedOrder(double[] keys) {
+        double[] copy = keys.clone();
+        Arrays.sort(copy);
+        int[] order = new int[keys.length];
+        int[] nextSlot = new int[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            int rank = rankOf(copy, keys[i]);
+            order[rank + nextSlot[rank]++] = i;
+        }
+        return order;
+    }
+
+    // First position whose key is not below value in Double.compare order
+    private static int rankOf(double[] sorted, double value) {
+        int lo = 0;
+        int hi = sorted.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (Double.compare(sorted[mid], value) < 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    private static double[] keysInOrder(double[] keys, int[] order) {
+        double[] sorted = new double[order.length];
+        for (int i = 0; i < order.length; i++) {
+            sorted[i] = keys[order[i]];
+        }
+        return sorted;
+    }
+
+    // First position in sorted[from, to) with key >= value
+    private static int lowerBound(double[] sorted, int from, int to, double value) {
+        int lo = from;
+        int hi = to;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (sorted[mid] < value) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    // First position in sorted[0, size) with key > value
+    private static int upperBound(double[] sorted, int size, double value) {
+        int lo = 0;
+        int hi = size;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (sorted[mid] <= value) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    // Growable int array for the hash index lists
+    static class IntList {
+        private int[] values = new int[8];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int size() {
+            return size;
+        }
+
+        // Backing array; only the first size() entries are valid
+        int[] values() {
+            return values;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public class CarInventoryBenchmark {
+    static final String[] BRANDS = {"BMW", "Cadillac", "Daimler", "Cupra", "Audi", "Daewoo", "Brabus", "BYD", "Tesla", "Lamborghini",
+                                    "Toyota", "Honda", "Ford", "Hyundai", "Kia", "Nissan", "Porsche", "Volvo", "Ferrari", "Mazda"};
+    static final String[] ORIGINS = {"Germany", "USA", "Germany", "Spain", "Germany", "Korea", "Germany", "China", "USA", "Italy",
+                                     "Japan", "Japan", "USA", "Korea", "Korea", "Japan", "Germany", "Sweden", "Italy", "Japan"};
+    static final String[] COLORS = {"Black", "White", "Silver", "Blue", "Gray", "Green", "Red", "Orange", "Yellow", "Purple"};
+
+    public static void main(String[] args) {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 2_000_000;
+        List<Car> catalog = generateCatalog(count, 42);
+
+        long start = System.nanoTime();
+        CarInventory inventory = new CarInventory();
+        inventory.addAll(catalog);
+        System.out.printf("Built inventory indexes for %d cars in %.1f ms%n", count, (System.nanoTime() - start) / 1e6);
+        System.out.println("-----------------------------");
+
+        CarQuery[] queries = {
+            new CarQuery().priceBetween(2_000_000, 8_000_000).origin("Germany").sortBy(CarQuery.SortBy.SPEED, true),
+            new CarQuery().priceBetween(2_000_000, 8_000_000).origin("Germany").sortBy(CarQuery.SortBy.SPEED, true).limit(20),
+            new CarQuery().brand("Tesla").speedBetween(240, 260),
+            new CarQuery().priceBetween(19_000_000, 20_000_000).sortBy(CarQuery.SortBy.PRICE, false).limit(10),
+            new CarQuery().priceBetween(19_000_000, 20_000_000).limit(10),
+            new CarQuery().priceBetween(19_000_000, 19_000_000).limit(5_000),
+        };
+        String[] labels = {
+            "2M-8M PHP, Germany, by speed",
+            "  ... top 20 only",
+            "Tesla, 240-260 km/h",
+            "19M-20M PHP, cheapest 10",
+            "19M-20M PHP, first 10 listed",
+            "19M PHP, first 5000 listed",
+        };
+
+        for (int i = 0; i < queries.length; i++) {
+            int runs = 20;
+            start = System.nanoTime();
+            List<Car> indexed = null;
+            for (int r = 0; r < runs; r++) {
+                indexed = inventory.query(queries[i]);
+            }
+            double indexedMs = (System.nanoTime() - start) / 1e6 / runs;
+
+            start = System.nanoTime();
+            List<Car> scanned = null;
+            for (int r = 0; r < 3; r++) {
+                scanned = inventory.scan(queries[i]);
+            }
+            double scanMs = (System.nanoTime() - start) / 1e6 / 3;
+
+            // Same cars in the same order, ties included
+            if (!indexed.equals(scanned)) {
+                throw new IllegalStateException("Index and scan disagree for " + labels[i]);
+            }
+            System.out.printf("%-30s indexed %8.2f ms   full scan %8.2f ms   (%d cars)%n", labels[i], indexedMs, scanMs, indexed.size());
+        }
+
+        // Trickle of single adds, each followed by a query: only the new car is merged in
+        List<Car> extra = generateCatalog(1000, 7);
+        CarQuery cheapest = new CarQuery().sortBy(CarQuery.SortBy.PRICE, false).limit(10);
+        start = System.nanoTime();
+        for (Car car : extra) {
+            inventory.add(car);
+            inventory.query(cheapest);
+        }
+        System.out.printf("%-30s %.3f ms per add + query%n", "Single adds", (System.nanoTime() - start) / 1e6 / extra.size());
+
+        // A car without a price sorts last and never matches a price range
+        inventory.add(new Car("Test", "Test Logo", "Nowhere", "Black", "TST0000000", "CH000000000", Double.NaN, 200, 3.0));
+        for (CarQuery q : new CarQuery[] {cheapest, new CarQuery().sortBy(CarQuery.SortBy.PRICE, true).limit(10), queries[3]}) {
+            if (!inventory.query(q).equals(inventory.scan(q))) {
+                throw new IllegalStateException("Index and scan disagree after adding a NaN price");
+            }
+        }
+        System.out.println("Index matches scan after single adds and a NaN price (" + inventory.size() + " cars)");
+    }
+
+    static List<Car> generateCatalog(int count, long seed) {
+        Random random = new Random(seed);
+        List<Car> catalog = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int b = random.nextInt(BRANDS.length);
+            catalog.add(new Car(BRANDS[b], BRANDS[b] + " Logo", ORIGINS[b], COLORS[random.nextInt(COLORS.length)],
+                    String.format("%s%07d", BRANDS[b].substring(0, 3).toUpperCase(), i), String.format("CH%09d", i),
+                    500_000 + random.nextInt(200) * 100_000, 150 + random.nextInt(171), 1.1 + random.nextInt(90) / 100.0));
+        }
+        return catalog;
+    }
+}
@@ -0,0 +1,107 @@
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Random;
+
+public class CarKeyBenchmark {
+    public static void main(String[] args) {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        List<Car> catalog = CarInventoryBenchmark.generateCatalog(count, 42);
+
+        // Lookup keys are fresh strings, like values read from a request
+        Random random = new Random(7);
+        String[] plates = new String[1_000_000];
+        for (int i = 0; i < plates.length; i++) {
+            plates[i] = new String(catalog.get(random.nextInt(count)).getPlateNo());
+        }
+
+        long before = usedHeap();
+        HashMap<String, Car> plateMap = new HashMap<>();
+        HashMap<String, Car> chassisMap = new HashMap<>();
+        for (Car car : catalog) {
+            plateMap.put(new String(car.getPlateNo()), car);
+            chassisMap.put(new String(car.getChassisNo()), car);
+        }
+        long mapBytes = usedHeap() - before;
+        long start = System.nanoTime();
+        int found = 0;
+        for (String plate : plates) {
+            if (plateMap.get(plate) != null) {
+                found++;
+            }
+        }
+        double mapNanos = (double) (System.nanoTime() - start) / plates.length;
+        plateMap = null;
+        chassisMap = null;
+
+        before = usedHeap();
+        CarKeyLookup lookup = new CarKeyLookup();
+        lookup.importAll(catalog, CarKeyLookup.DuplicatePolicy.SKIP);
+        long lookupBytes = usedHeap() - before;
+        start = System.nanoTime();
+        found = 0;
+        for (String plate : plates) {
+            if (lookup.findByPlateNo(plate) != null) {
+                found++;
+            }
+        }
+        double lookupNanos = (double) (System.nanoTime() - start) / plates.length;
+
+        System.out.println("Plate and chassis indexes for " + count + " cars (both keys, own key copies)");
+        System.out.println("-----------------------------");
+        System.out.printf("HashMap<String, Car> x2 : %6.1f bytes/car  %6.1f ns/lookup%n", (double) mapBytes / count, mapNanos);
+        System.out.printf("CarKeyLookup (arena)    : %6.1f bytes/car  %6.1f ns/lookup  (%d found)%n",
+                (double) lookupBytes / count, lookupNanos, found);
+
+        // Duplicate detection on a feed that repeats some records
+        List<Car> feed = new ArrayList<>(catalog.subList(0, 1000));
+        feed.add(new Car("BMW", "BMW Logo", "Germany", "Black", catalog.get(5).getPlateNo(), "CH-NEW", 6000000, 250, 1.7));
+        CarKeyLookup.ImportReport report = lookup.importAll(feed, CarKeyLookup.DuplicatePolicy.SKIP);
+        System.out.println("Re-import of 1001 records: " + report.getAdded() + " added, "
+                + report.getDuplicates().size() + " duplicates detected");
+
+        // One-at-a-time adds keep spare capacity instead of trimming on every call
+        List<Car> extra = CarInventoryBenchmark.generateCatalog(count + 100_000, 43).subList(count, count + 100_000);
+        start = System.nanoTime();
+        for (Car car : extra) {
+            lookup.add(car);
+        }
+        lookup.trimToSize();
+        System.out.printf("100000 single adds: %.2f us per add%n", (System.nanoTime() - start) / 1e3 / extra.size());
+
+        // REJECT leaves the lookup untouched when any record in the feed clashes
+        int sizeBefore = lookup.size();
+        List<Car> clash = new ArrayList<>(CarInventoryBenchmark.generateCatalog(count + 100_010, 44).subList(count + 100_000, count + 100_010));
+        clash.add(catalog.get(0));
+        report = lookup.importAll(clash, CarKeyLookup.DuplicatePolicy.REJECT);
+        if (!report.isRejected() || lookup.size() != sizeBefore || lookup.findByPlateNo(clash.get(0).getPlateNo()) != null) {
+            throw new IllegalStateException("REJECT import changed the lookup");
+        }
+
+        // REPLACE with only the plate matching moves the chassis key to the new record
+        Car old = catalog.get(7);
+        Car renewed = new Car(old.getBrand(), old.getLogo(), old.getOrigin(), "Red", old.getPlateNo(), "CH-REPLACED",
+                old.getPrice(), old.getSpeed(), old.getHeight());
+        report = lookup.importAll(List.of(renewed), CarKeyLookup.DuplicatePolicy.REPLACE);
+        if (report.getReplaced() != 1 || lookup.findByChassisNo("CH-REPLACED") != renewed
+                || lookup.findByChassisNo(old.getChassisNo()) != null || lookup.findByPlateNo(old.getPlateNo()) != renewed) {
+            throw new IllegalStateException("REPLACE on a plate-only match failed");
+        }
+
+        try {
+            lookup.add(new Car("BMW", "BMW Logo", "Germany", "Black", null, "CH-NO-PLATE", 6000000, 250, 1.7));
+            throw new IllegalStateException("A car without a plate was accepted");
+        } catch (IllegalArgumentException expected) {
+            System.out.println("Rejected: " + expected.getMessage());
+        }
+        System.out.println("REJECT, REPLACE and key checks passed (" + lookup.size() + " cars)");
+    }
+
+    private static long usedHeap() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
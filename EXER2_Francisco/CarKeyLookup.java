@@ -0,0 +1,138 @@
+import java.util.ArrayList;
+import java.util.List;
+
+public class CarKeyLookup {
+    // What to do when an imported car repeats a plate or chassis number already loaded
+    public enum DuplicatePolicy { REJECT, SKIP, REPLACE }
+
+    private final ArrayList<Car> cars = new ArrayList<>();
+    private final StringKeyIndex byPlate = new StringKeyIndex();
+    private final StringKeyIndex byChassis = new StringKeyIndex();
+
+    public Car findByPlateNo(String plateNo) {
+        int id = byPlate.get(plateNo);
+        return id < 0 ? null : cars.get(id);
+    }
+
+    public Car findByChassisNo(String chassisNo) {
+        int id = byChassis.get(chassisNo);
+        return id < 0 ? null : cars.get(id);
+    }
+
+    public int size() {
+        return byPlate.size();
+    }
+
+    // Adds one car; throws if its plate or chassis number is missing or already taken.
+    // Spare index capacity is kept for the next add; call trimToSize() when done adding.
+    public void add(Car car) {
+        checkKeys(car);
+        if (byPlate.get(car.getPlateNo()) >= 0 || byChassis.get(car.getChassisNo()) >= 0) {
+            throw new IllegalArgumentException("Duplicate key for car " + car.getPlateNo() + " / " + car.getChassisNo());
+        }
+        insert(car);
+    }
+
+    // Bulk import with duplicate detection; duplicates are listed in the report.
+    // REJECT is all or nothing: if any record repeats a key, nothing from the feed is added.
+    public ImportReport importAll(List<Car> feed, DuplicatePolicy policy) {
+        for (Car car : feed) {
+            checkKeys(car);
+        }
+        ImportReport report = new ImportReport();
+        if (policy == DuplicatePolicy.REJECT) {
+            StringKeyIndex feedPlates = new StringKeyIndex();
+            StringKeyIndex feedChassis = new StringKeyIndex();
+            for (Car car : feed) {
+                boolean taken = byPlate.get(car.getPlateNo()) >= 0 || byChassis.get(car.getChassisNo()) >= 0;
+                boolean repeated = feedPlates.putIfAbsent(car.getPlateNo(), 0) >= 0
+                        | feedChassis.putIfAbsent(car.getChassisNo(), 0) >= 0;
+                if (taken || repeated) {
+                    report.duplicates.add(car);
+                }
+            }
+            if (!report.duplicates.isEmpty()) {
+                report.rejected = true;
+                return report;
+            }
+        }
+
+        for (Car car : feed) {
+            int plateOwner = byPlate.get(car.getPlateNo());
+            int chassisOwner = byChassis.get(car.getChassisNo());
+            if (plateOwner < 0 && chassisOwner < 0) {
+                insert(car);
+                report.added++;
+                continue;
+            }
+
+            report.duplicates.add(car);
+            // Replace only when every matched key belongs to one car; a record whose plate
+            // and chassis belong to two different cars is reported and left alone
+            if (policy == DuplicatePolicy.REPLACE && (plateOwner < 0 || chassisOwner < 0 || plateOwner == chassisOwner)) {
+                replace(plateOwner >= 0 ? plateOwner : chassisOwner, car);
+                report.replaced++;
+            }
+        }
+        trimToSize();
+        return report;
+    }
+
+    // Drops spare index capacity, e.g. after a series of add() calls
+    public void trimToSize() {
+        byPlate.trimToSize();
+        byChassis.trimToSize();
+    }
+
+    private void insert(Car car) {
+        int id = cars.size();
+        cars.add(car);
+        byPlate.putIfAbsent(car.getPlateNo(), id);
+        byChassis.putIfAbsent(car.getChassisNo(), id);
+    }
+
+    // Keeps the newer record in the old car's slot and moves whichever key changed
+    private void replace(int id, Car car) {
+        Car old = cars.get(id);
+        if (!old.getPlateNo().equals(car.getPlateNo())) {
+            byPlate.remove(old.getPlateNo());
+            byPlate.putIfAbsent(car.getPlateNo(), id);
+        }
+        if (!old.getChassisNo().equals(car.getChassisNo())) {
+            byChassis.remove(old.getChassisNo());
+            byChassis.putIfAbsent(car.getChassisNo(), id);
+        }
+        cars.set(id, car);
+    }
+
+    private static void checkKeys(Car car) {
+        if (car.getPlateNo() == null || car.getChassisNo() == null) {
+            throw new IllegalArgumentException("Car " + car.getBrand() + " needs both a plate and a chassis number.");
+        }
+    }
+
+    public long indexMemoryBytes() {
+        return byPlate.memoryBytes() + byChassis.memoryBytes();
+    }
+
+    public static class ImportReport {
+        private int added;
+        private int replaced;
+        private boolean rejected;
+        private final ArrayList<Car> duplicates = new ArrayList<>();
+
+        public int getAdded() {
+            return added;
+        }
+        public int getReplaced() {
+            return replaced;
+        }
+        // True if REJECT refused the whole feed because it contained duplicates
+        public boolean isRejected() {
+            return rejected;
+        }
+        public List<Car> getDuplicates() {
+            return duplicates;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Files;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+public class CarLoadBenchmark {
+    public static void main(String[] args) throws IOException {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        Path feed = Files.createTempFile("car-feed", ".csv");
+        try {
+            List<Car> source = CarInventoryBenchmark.generateCatalog(count, 42);
+            new CarReportExporter(CarReportExporter.Layout.CSV).export(source, feed);
+            long fileBytes = Files.size(feed);
+            source = null;
+            System.gc();
+
+            System.out.printf("Nightly feed: %d rows, %.1f MB%n", count, fileBytes / 1e6);
+            System.out.println("-----------------------------");
+
+            // Baseline: Files.readAllLines + String.split + Double.parseDouble
+            resetPeaks();
+            long start = System.nanoTime();
+            int rows = 0;
+            for (String line : Files.readAllLines(feed)) {
+                if (line.startsWith("Brand,")) {
+                    continue;
+                }
+                String[] f = line.split(",");
+                new Car(f[0], f[1], f[2], f[3], f[4], f[5],
+                        Double.parseDouble(f[6]), Double.parseDouble(f[7]), Double.parseDouble(f[8]));
+                rows++;
+            }
+            report("readAllLines + split", rows, System.nanoTime() - start);
+
+            CarBulkLoader loader = new CarBulkLoader();
+            List<Car> cars = null;
+            for (int r = 0; r < 2; r++) {
+                cars = null;
+                System.gc();
+                resetPeaks();
+                start = System.nanoTime();
+                cars = loader.load(feed);
+                report("CarBulkLoader (mmap)", cars.size(), System.nanoTime() - start);
+            }
+            loader.shutdown();
+
+            System.out.println("\nFirst loaded car:");
+            cars.get(0).displayInfo();
+        } finally {
+            Files.deleteIfExists(feed);
+        }
+        checkQuotedFields();
+    }
+
+    // Line breaks inside quoted fields, a blank CRLF line and NaN/Infinity must survive
+    // an export and reload, even with chunks small enough to split inside a quoted field
+    private static void checkQuotedFields() throws IOException {
+        List<Car> source = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            source.add(new Car("Brand " + i, "Logo\nline " + i, "Origin, \"quoted\"", "Red\r\nBlue",
+                    "PLT-" + i, "CH\r" + i, i % 50 == 0 ? Double.NaN : 1_250_000.5 + i,
+                    i % 70 == 0 ? Double.NEGATIVE_INFINITY : 180.5, 1.25));
+        }
+        Path feed = Files.createTempFile("car-quoted", ".csv");
+        try {
+            new CarReportExporter(CarReportExporter.Layout.CSV).export(source, feed);
+            String csv = new String(Files.readAllBytes(feed), StandardCharsets.UTF_8);
+            int headerEnd = csv.indexOf('\n') + 1;
+            Files.write(feed, (csv.substring(0, headerEnd) + "\r\n" + csv.substring(headerEnd)).getBytes(StandardCharsets.UTF_8));
+
+            for (long chunkBytes : new long[] {7, 64, 1000}) {
+                CarBulkLoader loader = new CarBulkLoader(2, chunkBytes);
+                List<Car> loaded = loader.load(feed);
+                loader.shutdown();
+                if (loaded.size() != source.size()) {
+                    throw new AssertionError("chunk " + chunkBytes + ": loaded " + loaded.size() + " of " + source.size());
+                }
+                for (int i = 0; i < source.size(); i++) {
+                    if (!sameCar(source.get(i), loaded.get(i))) {
+                        throw new AssertionError("chunk " + chunkBytes + ": row " + i + " differs");
+                    }
+                }
+            }
+            System.out.println("\nQuoted line breaks, blank CRLF line, NaN/Infinity: reloaded intact");
+        } finally {
+            Files.deleteIfExists(feed);
+        }
+    }
+
+    private static boolean sameCar(Car a, Car b) {
+        return a.getBrand().equals(b.getBrand()) && a.getLogo().equals(b.getLogo())
+                && a.getOrigin().equals(b.getOrigin()) && a.getColor().equals(b.getColor())
+                && a.getPlateNo().equals(b.getPlateNo()) && a.getChassisNo().equals(b.getChassisNo())
+                && Double.compare(a.getPrice(), b.getPrice()) == 0
+                && Double.compare(a.getSpeed(), b.getSpeed()) == 0
+                && Double.compare(a.getHeight(), b.getHeight()) == 0;
+    }
+
+    private static void resetPeaks() {
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                pool.resetPeakUsage();
+            }
+        }
+    }
+
+    private static long peakHeap() {
+        long peak = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                peak += pool.getPeakUsage().getUsed();
+            }
+        }
+        return peak;
+    }
+
+    private static void report(String label, int rows, long nanos) {
+        System.out.printf("%-24s %10.0f rows/s   peak heap %6.0f MB%n", label, rows / (nanos / 1e9), peakHeap() / 1e6);
+    }
+}
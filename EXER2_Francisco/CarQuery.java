@@ -0,0 +1,56 @@
+public class CarQuery {
+    public enum SortBy { NONE, PRICE, SPEED }
+
+    double minPrice = Double.NEGATIVE_INFINITY;
+    double maxPrice = Double.POSITIVE_INFINITY;
+    double minSpeed = Double.NEGATIVE_INFINITY;
+    double maxSpeed = Double.POSITIVE_INFINITY;
+    String origin;
+    String brand;
+    SortBy sortBy = SortBy.NONE;
+    boolean descending;
+    int limit = Integer.MAX_VALUE;
+
+    // Inclusive price range in PHP
+    public CarQuery priceBetween(double min, double max) {
+        this.minPrice = min;
+        this.maxPrice = max;
+        return this;
+    }
+
+    // Inclusive speed range in km/h
+    public CarQuery speedBetween(double min, double max) {
+        this.minSpeed = min;
+        this.maxSpeed = max;
+        return this;
+    }
+
+    public CarQuery origin(String origin) {
+        this.origin = origin;
+        return this;
+    }
+
+    public CarQuery brand(String brand) {
+        this.brand = brand;
+        return this;
+    }
+
+    public CarQuery sortBy(SortBy sortBy, boolean descending) {
+        this.sortBy = sortBy;
+        this.descending = descending;
+        return this;
+    }
+
+    public CarQuery limit(int limit) {
+        this.limit = limit;
+        return this;
+    }
+
+    // True if the car passes every filter (used for the final check and for full scans)
+    public boolean matches(Car car) {
+        return car.getPrice() >= minPrice && car.getPrice() <= maxPrice
+                && car.getSpeed() >= minSpeed && car.getSpeed() <= maxSpeed
+                && (origin == null || origin.equalsIgnoreCase(car.getOrigin()))
+                && (brand == null || brand.equalsIgnoreCase(car.getBrand()));
+    }
+}
@@ -0,0 +1,84 @@
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+public class CarReportBenchmark {
+    public static void main(String[] args) throws IOException {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 500_000;
+        List<Car> catalog = CarInventoryBenchmark.generateCatalog(count, 42);
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().getId();
+
+        // Discards bytes without copying them, so only the rendering is measured
+        WritableByteChannel sink = new WritableByteChannel() {
+            public int write(ByteBuffer src) {
+                int n = src.remaining();
+                src.position(src.limit());
+                return n;
+            }
+            public boolean isOpen() {
+                return true;
+            }
+            public void close() {
+            }
+        };
+
+        System.out.println("Report export for " + count + " cars (best of 3)");
+        System.out.println("-----------------------------");
+
+        PrintStream console = System.out;
+        PrintStream discard = new PrintStream(OutputStream.nullOutputStream());
+        long best = Long.MAX_VALUE;
+        long bytes = 0;
+        for (int r = 0; r < 3; r++) {
+            System.setOut(discard);
+            long allocated = threads.getThreadAllocatedBytes(thread);
+            long start = System.nanoTime();
+            for (Car car : catalog) {
+                car.displayInfo();
+            }
+            best = Math.min(best, System.nanoTime() - start);
+            bytes = threads.getThreadAllocatedBytes(thread) - allocated;
+            System.setOut(console);
+        }
+        report("displayInfo() loop", count, best, bytes);
+
+        for (CarReportExporter.Layout layout : CarReportExporter.Layout.values()) {
+            CarReportExporter exporter = new CarReportExporter(layout);
+            best = Long.MAX_VALUE;
+            for (int r = 0; r < 3; r++) {
+                long allocated = threads.getThreadAllocatedBytes(thread);
+                long start = System.nanoTime();
+                exporter.export(catalog, sink);
+                best = Math.min(best, System.nanoTime() - start);
+                bytes = threads.getThreadAllocatedBytes(thread) - allocated;
+            }
+            report("Exporter " + layout, count, best, bytes);
+        }
+
+        // Sample of each layout written to a real file, plus a car with awkward values:
+        // non-ASCII text, a bare carriage return, NaN, infinity and a number too big for a long
+        List<Car> sample = new ArrayList<>(catalog.subList(0, 2));
+        sample.add(new Car("Citro\u00EBn", "Double\rChevron", "France", "Gris \u00C9l\u00E9phant", "CIT0000001", "CH000000001",
+                Double.NaN, Double.POSITIVE_INFINITY, 1e17));
+        for (CarReportExporter.Layout layout : CarReportExporter.Layout.values()) {
+            Path file = Files.createTempFile("cars", ".txt");
+            new CarReportExporter(layout).export(sample, file);
+            System.out.println("\n" + layout + ":");
+            System.out.print(Files.readString(file));
+            Files.delete(file);
+        }
+    }
+
+    private static void report(String label, int cars, long nanos, long bytes) {
+        System.out.printf("%-24s %10.0f cars/s  %8.1f bytes allocated/car%n",
+                label, cars / (nanos / 1e9), (double) bytes / cars);
+    }
+}
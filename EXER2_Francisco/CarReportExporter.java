@@ -0,0 +1,266 @@
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+public class CarReportExporter {
+    public enum Layout { TEXT, CSV, FIXED_WIDTH }
+
+    // Column widths for the fixed-width layout, in field order
+    private static final int[] WIDTHS = {14, 16, 12, 10, 12, 22, 14, 8, 8};
+    private static final String[] HEADERS = {"Brand", "Logo", "Origin", "Color", "Plate No", "Chassis No", "Price (PHP)", "Speed", "Height"};
+    private static final String SEPARATOR = "-----------------------------";
+
+    private final Layout layout;
+    private final byte[] buffer;              // reused for every car
+    private final ByteBuffer bufferView;      // same bytes, for channel writes
+    private int position;
+    private byte[] digits = new byte[32];     // scratch space for formatting numbers
+    private WritableByteChannel out;
+
+    public CarReportExporter(Layout layout, int bufferSize) {
+        this.layout = layout;
+        this.buffer = new byte[Math.max(1024, bufferSize)];
+        this.bufferView = ByteBuffer.wrap(buffer);
+    }
+
+    public CarReportExporter(Layout layout) {
+        this(layout, 64 * 1024);
+    }
+
+    public void export(Iterable<Car> cars, Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            export(cars, channel);
+        }
+    }
+
+    // Renders every car into the buffer and writes it out whenever the buffer fills up
+    public void export(Iterable<Car> cars, WritableByteChannel channel) throws IOException {
+        out = channel;
+        position = 0;
+        writeHeader();
+        for (Car car : cars) {
+            writeCar(car);
+        }
+        flush();
+        out = null;
+    }
+
+    private void writeHeader() throws IOException {
+        if (layout == Layout.CSV) {
+            for (int i = 0; i < HEADERS.length; i++) {
+                if (i > 0) {
+                    put((byte) ',');
+                }
+                putText(HEADERS[i]);
+            }
+            put((byte) '\n');
+        } else if (layout == Layout.FIXED_WIDTH) {
+            for (int i = 0; i < HEADERS.length; i++) {
+                putPadded(HEADERS[i], WIDTHS[i]);
+            }
+            put((byte) '\n');
+        }
+    }
+
+    private void writeCar(Car car) throws IOException {
+        switch (layout) {
+            case TEXT:
+                // Same lines as Car.displayInfo(), with fixed decimals for the numbers
+                putText("Brand: "); putText(car.getBrand());
+                putText("\nLogo: "); putText(car.getLogo());
+                putText("\nOrigin: "); putText(car.getOrigin());
+                putText("\nColor: "); putText(car.getColor());
+                putText("\nPlate No: "); putText(car.getPlateNo());
+                putText("\nChassis No: "); putText(car.getChassisNo());
+                putText("\nPrice: PHP "); putNumber(car.getPrice(), 2);
+                putText("\nSpeed: "); putNumber(car.getSpeed(), 1); putText(" km/h");
+                putText("\nHeight: "); putNumber(car.getHeight(), 2); putText(" m\n");
+                putText(SEPARATOR);
+                put((byte) '\n');
+                break;
+            case CSV:
+                putCsv(car.getBrand()); put((byte) ',');
+                putCsv(car.getLogo()); put((byte) ',');
+                putCsv(car.getOrigin()); put((byte) ',');
+                putCsv(car.getColor()); put((byte) ',');
+                putCsv(car.getPlateNo()); put((byte) ',');
+                putCsv(car.getChassisNo()); put((byte) ',');
+                putNumber(car.getPrice(), 2); put((byte) ',');
+                putNumber(car.getSpeed(), 1); put((byte) ',');
+                putNumber(car.getHeight(), 2);
+                put((byte) '\n');
+                break;
+            default:
+                putPadded(car.getBrand(), WIDTHS[0]);
+                putPadded(car.getLogo(), WIDTHS[1]);
+                putPadded(car.getOrigin(), WIDTHS[2]);
+                putPadded(car.getColor(), WIDTHS[3]);
+                putPadded(car.getPlateNo(), WIDTHS[4]);
+                putPadded(car.getChassisNo(), WIDTHS[5]);
+                putNumberRight(car.getPrice(), 2, WIDTHS[6]);
+                putNumberRight(car.getSpeed(), 1, WIDTHS[7]);
+                putNumberRight(car.getHeight(), 2, WIDTHS[8]);
+                put((byte) '\n');
+                break;
+        }
+    }
+
+    private void put(byte b) throws IOException {
+        if (position == buffer.length) {
+            flush();
+        }
+        buffer[position++] = b;
+    }
+
+    // Writes a string as UTF-8 one char at a time (no byte[] copy of the string)
+    private void putText(String s) throws IOException {
+        if (s == null) {
+            return;
+        }
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c < 0x80 && position < buffer.length) {
+                buffer[position++] = (byte) c; // common ASCII case
+            } else if (Character.isHighSurrogate(c) && i + 1 < s.length()) {
+                putCodePoint(Character.toCodePoint(c, s.charAt(++i)));
+            } else {
+                putCodePoint(c);
+            }
+        }
+    }
+
+    private void putCodePoint(int cp) throws IOException {
+        if (cp < 0x80) {
+            put((byte) cp);
+        } else if (cp < 0x800) {
+            put((byte) (0xC0 | (cp >> 6)));
+            put((byte) (0x80 | (cp & 0x3F)));
+        } else if (cp < 0x10000) {
+            put((byte) (0xE0 | (cp >> 12)));
+            put((byte) (0x80 | ((cp >> 6) & 0x3F)));
+            put((byte) (0x80 | (cp & 0x3F)));
+        } else {
+            put((byte) (0xF0 | (cp >> 18)));
+            put((byte) (0x80 | ((cp >> 12) & 0x3F)));
+            put((byte) (0x80 | ((cp >> 6) & 0x3F)));
+            put((byte) (0x80 | (cp & 0x3F)));
+        }
+    }
+
+    // Quoted when the value holds a comma, quote, or either line-break character
+    private void putCsv(String s) throws IOException {
+        if (s == null || (s.indexOf(',') < 0 && s.indexOf('"') < 0 && s.indexOf('\n') < 0 && s.indexOf('\r') < 0)) {
+            putText(s);
+            return;
+        }
+        put((byte) '"');
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c == '"') {
+                put((byte) '"');
+            }
+            if (Character.isHighSurrogate(c) && i + 1 < s.length()) {
+                putCodePoint(Character.toCodePoint(c, s.charAt(++i)));
+            } else {
+                putCodePoint(c);
+            }
+        }
+        put((byte) '"');
+    }
+
+    // Left-aligned, cut or padded to width characters (code points, written as UTF-8),
+    // one space between columns. Control characters such as a stray \r become spaces so a
+    // record always stays on one line.
+    private void putPadded(String s, int width) throws IOException {
+        int written = 0;
+        if (s != null) {
+            for (int i = 0; i < s.length() && written < width - 1; written++) {
+                int cp = s.codePointAt(i);
+                putCodePoint(Character.isISOControl(cp) ? ' ' : cp);
+                i += Character.charCount(cp);
+            }
+        }
+        for (int i = written; i < width; i++) {
+            put((byte) ' ');
+        }
+    }
+
+    private void putNumber(double value, int decimals) throws IOException {
+        int length = formatNumber(value, decimals);
+        for (int i = digits.length - length; i < digits.length; i++) {
+            put(digits[i]);
+        }
+    }
+
+    // Numbers are never cut: one wider than its column pushes the rest of the row right
+    private void putNumberRight(double value, int decimals, int width) throws IOException {
+        int length = formatNumber(value, decimals);
+        for (int i = length; i < width - 1; i++) {
+            put((byte) ' ');
+        }
+        for (int i = digits.length - length; i < digits.length; i++) {
+            put(digits[i]);
+        }
+        put((byte) ' ');
+    }
+
+    // Fixed-point digits written right-to-left into the scratch array; returns the length.
+    // NaN and the infinities are spelled out as Car.displayInfo() prints them, and values
+    // too large for a long once scaled go through BigDecimal.
+    private int formatNumber(double value, int decimals) {
+        long scale = 1;
+        for (int i = 0; i < decimals; i++) {
+            scale *= 10;
+        }
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            return formatText(Double.toString(value));
+        }
+        if (Math.abs(value) * scale >= Long.MAX_VALUE) {
+            return formatText(new BigDecimal(value).setScale(decimals, RoundingMode.HALF_UP).toPlainString());
+        }
+        long scaled = Math.round(Math.abs(value) * scale);
+        boolean negative = value < 0 && scaled != 0;
+        int pos = digits.length;
+        for (int i = 0; i < decimals; i++) {
+            digits[--pos] = (byte) ('0' + scaled % 10);
+            scaled /= 10;
+        }
+        if (decimals > 0) {
+            digits[--pos] = '.';
+        }
+        do {
+            digits[--pos] = (byte) ('0' + scaled % 10);
+            scaled /= 10;
+        } while (scaled > 0);
+        if (negative) {
+            digits[--pos] = '-';
+        }
+        return digits.length - pos;
+    }
+
+    // Right-aligns ASCII text in the scratch array, growing it if needed
+    private int formatText(String text) {
+        if (text.length() > digits.length) {
+            digits = new byte[text.length()];
+        }
+        int pos = digits.length - text.length();
+        for (int i = 0; i < text.length(); i++) {
+            digits[pos + i] = (byte) text.charAt(i);
+        }
+        return text.length();
+    }
+
+    private void flush() throws IOException {
+        bufferView.clear().limit(position);
+        while (bufferView.hasRemaining()) {
+            out.write(bufferView);
+        }
+        position = 0;
+    }
+}
@@ -0,0 +1,68 @@
+// Price and speed summary for one origin or brand
+public class CarStats {
+    public static final double[] PERCENTILES = {0.50, 0.90, 0.99};
+
+    private final String group;
+    private final int count;
+    private final double meanPrice;
+    private final double meanSpeed;
+    private final double[] pricePercentiles;
+    private final double[] speedPercentiles;
+    private final long[] priceHistogram;
+    private final long[] speedHistogram;
+
+    CarStats(String group, int count, double meanPrice, double meanSpeed,
+             double[] pricePercentiles, double[] speedPercentiles,
+             long[] priceHistogram, long[] speedHistogram) {
+        this.group = group;
+        this.count = count;
+        this.meanPrice = meanPrice;
+        this.meanSpeed = meanSpeed;
+        this.pricePercentiles = pricePercentiles;
+        this.speedPercentiles = speedPercentiles;
+        this.priceHistogram = priceHistogram;
+        this.speedHistogram = speedHistogram;
+    }
+
+    public String getGroup() {
+        return group;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public double getMeanPrice() {
+        return meanPrice;
+    }
+
+    public double getMeanSpeed() {
+        return meanSpeed;
+    }
+
+    // Index into PERCENTILES, e.g. 0 for the median
+    public double getPricePercentile(int index) {
+        return pricePercentiles[index];
+    }
+
+    public double getSpeedPercentile(int index) {
+        return speedPercentiles[index];
+    }
+
+    // Bin counts over the catalog-wide range, CarAnalytics.HISTOGRAM_BINS bins
+    public long[] getPriceHistogram() {
+        return priceHistogram.clone();
+    }
+
+    public long[] getSpeedHistogram() {
+        return speedHistogram.clone();
+    }
+
+    public void displayInfo() {
+        System.out.println(group + " (" + count + " cars)");
+        System.out.printf("  Price: mean PHP %.0f, p50 %.0f, p90 %.0f, p99 %.0f%n",
+                meanPrice, pricePercentiles[0], pricePercentiles[1], pricePercentiles[2]);
+        System.out.printf("  Speed: mean %.1f km/h, p50 %.1f, p90 %.1f, p99 %.1f%n",
+                meanSpeed, speedPercentiles[0], speedPercentiles[1], speedPercentiles[2]);
+    }
+}
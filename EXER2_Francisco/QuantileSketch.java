@@ -0,0 +1,135 @@
+import java.util.Arrays;
+
+// Approximate quantiles for positive values in fixed memory. Values fall into logarithmic
+// buckets, so any returned quantile is within the relative accuracy of a real value.
+// Sketches can be merged, which lets a dashboard combine per-brand sketches cheaply.
+public class QuantileSketch {
+    private final double relativeAccuracy;
+    private final double logGamma;
+    private final double gamma;
+
+    private long[] buckets = new long[64];
+    private int offset;          // bucket index stored at buckets[0]
+    private boolean empty = true;
+    private long zeroCount;
+    private long count;
+
+    public QuantileSketch(double relativeAccuracy) {
+        if (relativeAccuracy <= 0 || relativeAccuracy >= 1) {
+            throw new IllegalArgumentException("Relative accuracy must be between 0 and 1");
+        }
+        this.relativeAccuracy = relativeAccuracy;
+        this.gamma = (1 + relativeAccuracy) / (1 - relativeAccuracy);
+        this.logGamma = Math.log(gamma);
+    }
+
+    public synchronized void add(double value) {
+        count++;
+        if (value <= 0) {
+            zeroCount++;
+            return;
+        }
+        int index = (int) Math.ceil(Math.log(value) / logGamma);
+        if (empty) {
+            offset = index - buckets.length / 2;
+            empty = false;
+        }
+        ensureRange(index);
+        buckets[index - offset]++;
+    }
+
+    // Takes back one earlier add(value), e.g. when a listing is repriced
+    public synchronized void remove(double value) {
+        if (value <= 0) {
+            if (zeroCount == 0) {
+                throw new IllegalArgumentException("Value was never added: " + value);
+            }
+            zeroCount--;
+            count--;
+            return;
+        }
+        int index = (int) Math.ceil(Math.log(value) / logGamma);
+        if (empty || index < offset || index - offset >= buckets.length || buckets[index - offset] == 0) {
+            throw new IllegalArgumentException("Value was never added: " + value);
+        }
+        buckets[index - offset]--;
+        count--;
+    }
+
+    public synchronized long getCount() {
+        return count;
+    }
+
+    // q between 0 and 1
+    public synchronized double quantile(double q) {
+        if (count == 0) {
+            return Double.NaN;
+        }
+        long rank = Math.max(1, (long) Math.ceil(q * count));
+        if (rank <= zeroCount) {
+            return 0;
+        }
+        long seen = zeroCount;
+        for (int i = 0; i < buckets.length; i++) {
+            seen += buckets[i];
+            if (seen >= rank) {
+                return 2 * Math.pow(gamma, i + offset) / (gamma + 1);
+            }
+        }
+        return 2 * Math.pow(gamma, buckets.length - 1 + offset) / (gamma + 1);
+    }
+
+    public void merge(QuantileSketch other) {
+        if (other.relativeAccuracy != relativeAccuracy) {
+            throw new IllegalArgumentException("Cannot merge sketches with different accuracy");
+        }
+        long[] otherBuckets;
+        int otherOffset;
+        long otherZero;
+        long otherCount;
+        boolean otherEmpty;
+        synchronized (other) {
+            otherBuckets = other.buckets.clone();
+            otherOffset = other.offset;
+            otherZero = other.zeroCount;
+            otherCount = other.count;
+            otherEmpty = other.empty;
+        }
+        synchronized (this) {
+            count += otherCount;
+            zeroCount += otherZero;
+            if (otherEmpty) {
+                return;
+            }
+            for (int i = 0; i < otherBuckets.length; i++) {
+                if (otherBuckets[i] != 0) {
+                    int index = i + otherOffset;
+                    if (empty) {
+                        offset = index - buckets.length / 2;
+                        empty = false;
+                    }
+                    ensureRange(index);
+                    buckets[index - offset] += otherBuckets[i];
+                }
+            }
+        }
+    }
+
+    // Bytes held by the bucket array; stays small because buckets grow with the log of the value range
+    public synchronized int footprintBytes() {
+        return buckets.length * Long.BYTES;
+    }
+
+    private void ensureRange(int index) {
+        if (index < offset) {
+            int shift = Math.max(offset - index, buckets.length / 2);
+            long[] grown = new long[buckets.length + shift];
+            System.arraycopy(buckets, 0, grown, shift, buckets.length);
+            buckets = grown;
+            offset -= shift;
+        } else if (index - offset >= buckets.length) {
+            int needed = index - offset + 1;
+            buckets = Arrays.copyOf(buckets, Math.max(needed, buckets.length + buckets.length / 2));
+        }
+    }
+}
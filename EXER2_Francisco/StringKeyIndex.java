@@ -0,0 +1,206 @@
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+// Hash index from a unique string key to an int id.
+// Keys are copied as UTF-8 into one shared byte arena, so there is no String or entry object per key.
+public class StringKeyIndex {
+    private static final float MAX_LOAD = 0.6f;
+    private static final long EMPTY = 0;
+
+    private byte[] arena = new byte[1024];
+    private int arenaSize;
+
+    // Per entry, side by side so one lookup touches one cache line:
+    // [offset of the key in the arena, key length (-1 once removed), cached hash, id]
+    private static final int STRIDE = 4;
+    private int[] entries = new int[64 * STRIDE];
+    private int count;   // entries written, including removed ones
+    private int removed; // removed entries still taking arena and entry space until trimToSize()
+
+    // Open-addressing slots: (hash << 32) | (entry position + 1), so most misses never leave this array
+    private long[] table = new long[128];
+
+    public int size() {
+        return count - removed;
+    }
+
+    // Returns the id stored for key, or -1
+    public int get(String key) {
+        int hash = hash(key);
+        int mask = table.length - 1;
+        for (int i = hash & mask; ; i = (i + 1) & mask) {
+            long slot = table[i];
+            if (slot == EMPTY) {
+                return -1;
+            }
+            int entry = (int) slot - 1;
+            if ((int) (slot >>> 32) == hash && keyEquals(entry, key)) {
+                return entries[entry + 3];
+            }
+        }
+    }
+
+    // Adds key -> id; returns the id already stored if the key exists (nothing is changed then)
+    public int putIfAbsent(String key, int id) {
+        int hash = hash(key);
+        int mask = table.length - 1;
+        int i = hash & mask;
+        for (; table[i] != EMPTY; i = (i + 1) & mask) {
+            int entry = (int) table[i] - 1;
+            if ((int) (table[i] >>> 32) == hash && keyEquals(entry, key)) {
+                return entries[entry + 3];
+            }
+        }
+        if (count * STRIDE == entries.length) {
+            entries = Arrays.copyOf(entries, entries.length * 2);
+        }
+        int entry = count++ * STRIDE;
+        int offset = appendKey(key);
+        entries[entry] = offset;
+        entries[entry + 1] = arenaSize - offset;
+        entries[entry + 2] = hash;
+        entries[entry + 3] = id;
+        table[i] = slotFor(hash, entry);
+        if (size() > table.length * MAX_LOAD) {
+            rehash(table.length * 2);
+        }
+        return -1;
+    }
+
+    // Removes key and returns its id, or -1. The key's bytes are reclaimed by the next trimToSize().
+    public int remove(String key) {
+        int hash = hash(key);
+        int mask = table.length - 1;
+        for (int i = hash & mask; table[i] != EMPTY; i = (i + 1) & mask) {
+            int entry = (int) table[i] - 1;
+            if ((int) (table[i] >>> 32) == hash && keyEquals(entry, key)) {
+                entries[entry + 1] = -1;
+                removed++;
+                // Shift later slots of the probe chain back so lookups never stop at the hole
+                table[i] = EMPTY;
+                for (int j = (i + 1) & mask; table[j] != EMPTY; j = (j + 1) & mask) {
+                    int home = (int) (table[j] >>> 32) & mask;
+                    if (((j - home) & mask) >= ((j - i) & mask)) {
+                        table[i] = table[j];
+                        table[j] = EMPTY;
+                        i = j;
+                    }
+                }
+                return entries[entry + 3];
+            }
+        }
+        return -1;
+    }
+
+    // Heap used by the arena and the arrays
+    public long memoryBytes() {
+        return 16L + arena.length
+                + 16L + 4L * entries.length
+                + 16L + 8L * table.length;
+    }
+
+    // Trims spare capacity after a bulk import and drops the space of removed keys
+    public void trimToSize() {
+        if (removed > 0) {
+            byte[] liveArena = new byte[arenaSize];
+            int[] liveEntries = new int[Math.max(1, count - removed) * STRIDE];
+            int liveSize = 0;
+            int live = 0;
+            for (int entry = 0; entry < count * STRIDE; entry += STRIDE) {
+                int length = entries[entry + 1];
+                if (length < 0) {
+                    continue;
+                }
+                System.arraycopy(arena, entries[entry], liveArena, liveSize, length);
+                liveEntries[live] = liveSize;
+                liveEntries[live + 1] = length;
+                liveEntries[live + 2] = entries[entry + 2];
+                liveEntries[live + 3] = entries[entry + 3];
+                liveSize += length;
+                live += STRIDE;
+            }
+            arena = liveArena;
+            arenaSize = liveSize;
+            entries = liveEntries;
+            count -= removed;
+            removed = 0;
+            rehash(table.length);
+        }
+        arena = Arrays.copyOf(arena, arenaSize);
+        entries = Arrays.copyOf(entries, Math.max(STRIDE, count * STRIDE));
+    }
+
+    private int appendKey(String key) {
+        int start = arenaSize;
+        if (isAscii(key)) {
+            ensureArena(key.length());
+            for (int c = 0; c < key.length(); c++) {
+                arena[arenaSize++] = (byte) key.charAt(c);
+            }
+        } else {
+            byte[] utf8 = key.getBytes(StandardCharsets.UTF_8);
+            ensureArena(utf8.length);
+            System.arraycopy(utf8, 0, arena, arenaSize, utf8.length);
+            arenaSize += utf8.length;
+        }
+        return start;
+    }
+
+    private boolean keyEquals(int entry, String key) {
+        int offset = entries[entry];
+        int length = entries[entry + 1];
+        if (isAscii(key)) {
+            if (length != key.length()) {
+                return false;
+            }
+            for (int c = 0; c < length; c++) {
+                if (arena[offset + c] != (byte) key.charAt(c)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        byte[] utf8 = key.getBytes(StandardCharsets.UTF_8);
+        return Arrays.equals(arena, offset, offset + length, utf8, 0, utf8.length);
+    }
+
+    // String.hashCode is an intrinsic and cached by the String; spread it for linear probing
+    private static int hash(String key) {
+        int h = key.hashCode() * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private static long slotFor(int hash, int entry) {
+        return ((long) hash << 32) | (entry + 1L);
+    }
+
+    private static boolean isAscii(String key) {
+        for (int c = 0; c < key.length(); c++) {
+            if (key.charAt(c) >= 0x80) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void ensureArena(int extra) {
+        if (arenaSize + extra > arena.length) {
+            arena = Arrays.copyOf(arena, Math.max(arena.length * 2, arenaSize + extra));
+        }
+    }
+
+    private void rehash(int capacity) {
+        table = new long[capacity];
+        int mask = capacity - 1;
+        for (int entry = 0; entry < count * STRIDE; entry += STRIDE) {
+            if (entries[entry + 1] < 0) {
+                continue;
+            }
+            int i = entries[entry + 2] & mask;
+            while (table[i] != EMPTY) {
+                i = (i + 1) & mask;
+            }
+            table[i] = slotFor(entries[entry + 2], entry);
+        }
+    }
+}
@@ -1,4 +1,6 @@
 public class AirTransport extends Transportation {
+    public static final double CLIMB_RATE = 36000; // meters per hour (600 m/min)
+
     private double maxAltitude; // in meters
 
     public AirTransport(String name, int capacity, double speed, double maxAltitude) {
@@ -6,6 +8,22 @@ public class AirTransport extends Transportation {
         this.maxAltitude = maxAltitude;
     }
 
+    public double getMaxAltitude() {
+        return maxAltitude;
+    }
+
+    // Climbs while moving but never above maxAltitude
+    @Override
+    public void advance(double hours) {
+        super.advance(hours);
+        altitude = climb(altitude, maxAltitude, hours);
+    }
+
+    // Altitude after one step of climbing (also used by FleetStore)
+    static double climb(double altitude, double maxAltitude, double hours) {
+        return Math.min(maxAltitude, altitude + CLIMB_RATE * hours);
+    }
+
     public void takeOff() {
         System.out.println(name + " is taking off.");
     }
@@ -0,0 +1,47 @@
+// Segment tree over the remaining capacity of each vehicle.
+// Finds the first vehicle that still fits a shipment in O(log n).
+class CapacityTree {
+    private final int leaves;
+    private final long[] max;
+
+    CapacityTree(long[] remaining) {
+        int n = 1;
+        while (n < Math.max(1, remaining.length)) {
+            n <<= 1;
+        }
+        leaves = n;
+        max = new long[2 * n];
+        System.arraycopy(remaining, 0, max, n, remaining.length);
+        for (int i = n - 1; i > 0; i--) {
+            max[i] = Math.max(max[2 * i], max[2 * i + 1]);
+        }
+    }
+
+    // Leftmost vehicle with at least weight remaining, or -1
+    int firstFit(long weight) {
+        if (max[1] < weight) {
+            return -1;
+        }
+        int node = 1;
+        while (node < leaves) {
+            node = max[2 * node] >= weight ? 2 * node : 2 * node + 1;
+        }
+        return node - leaves;
+    }
+
+    long remaining(int vehicle) {
+        return max[leaves + vehicle];
+    }
+
+    void use(int vehicle, long weight) {
+        set(vehicle, max[leaves + vehicle] - weight);
+    }
+
+    void set(int vehicle, long remaining) {
+        int node = leaves + vehicle;
+        max[node] = remaining;
+        for (node >>= 1; node > 0; node >>= 1) {
+            max[node] = Math.max(max[2 * node], max[2 * node + 1]);
+        }
+    }
+}
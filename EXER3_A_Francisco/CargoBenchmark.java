@@ -0,0 +1,91 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public class CargoBenchmark {
+    public static void main(String[] args) {
+        int shipmentCount = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        int vehicleCount = args.length > 1 ? Integer.parseInt(args[1]) : 10_000;
+        Random random = new Random(42);
+
+        List<Transportation> fleet = new ArrayList<>();
+        for (int i = 0; i < vehicleCount; i++) {
+            switch (i % 10) {
+                case 0: fleet.add(new Ship("Cargo Ship " + i, 25, 39, 52310, 200_000 + random.nextInt(100_000))); break;
+                case 1:
+                case 2: fleet.add(new Kariton("Kariton " + i, 150 + random.nextInt(100))); break;
+                default: fleet.add(new Truck("Truck " + i, 3, 110, 18, 8_000 + random.nextInt(12_000))); break;
+            }
+        }
+
+        List<Shipment> shipments = new ArrayList<>();
+        long totalWeight = 0;
+        for (int i = 0; i < shipmentCount; i++) {
+            int weight = 20 + (int) Math.abs(random.nextGaussian() * 3000);
+            shipments.add(new Shipment(i, weight));
+            totalWeight += weight;
+        }
+        System.out.println("--- Cargo Assignment (" + shipmentCount + " shipments, " + totalWeight + " kg, "
+                + vehicleCount + " vehicles) ---");
+
+        CargoPlanner warmup = new CargoPlanner(fleet, 2);
+        for (int r = 0; r < 5; r++) {
+            warmup.planAll(shipments);
+        }
+        warmup.shutdown();
+
+        run("Single thread", new CargoPlanner(fleet, 1), shipments);
+        CargoPlanner planner = new CargoPlanner(fleet);
+        run("Fork-join x" + Runtime.getRuntime().availableProcessors(), planner, shipments);
+
+        // Incremental placement after the plan is built
+        int extra = 10_000;
+        int placed = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < extra; i++) {
+            if (planner.place(new Shipment(shipmentCount + i, 20 + random.nextInt(500))) != null) {
+                placed++;
+            }
+        }
+        double micros = (System.nanoTime() - start) / 1e3 / extra;
+        System.out.printf("%-20s %d/%d placed, %.2f us per shipment%n", "Incremental", placed, extra, micros);
+
+        // Unload frees exactly what place() used, even if the caller's Shipment object differs
+        Shipment probe = new Shipment(-1, 50);
+        Transportation carrier = planner.place(probe);
+        if (carrier != null) {
+            long before = planner.getUsedKg();
+            planner.unload(new Shipment(-1, 9_999));
+            System.out.printf("%-20s freed %d kg%n", "Unload", before - planner.getUsedKg());
+        }
+        // Loading a specific truck goes through the same plan
+        Truck truck = (Truck) fleet.get(3);
+        truck.loadCargo(new Shipment(-2, 1), planner);
+        truck.loadCargo(new Shipment(-3, truck.getCargoCapacityKg() + 1), planner);
+        try {
+            planner.planAll(List.of(new Shipment(1, 10), new Shipment(1, 20)));
+            throw new IllegalStateException("Duplicate shipment ids were accepted");
+        } catch (IllegalArgumentException expected) {
+            System.out.printf("%-20s %s%n", "Duplicate ids", expected.getMessage());
+        }
+        planner.shutdown();
+    }
+
+    private static void run(String label, CargoPlanner planner, List<Shipment> shipments) {
+        Transportation[] result = null;
+        long best = Long.MAX_VALUE;
+        for (int r = 0; r < 5; r++) {
+            long start = System.nanoTime();
+            result = planner.planAll(shipments);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        int placed = 0;
+        for (Transportation v : result) {
+            if (v != null) {
+                placed++;
+            }
+        }
+        System.out.printf("%-20s %8.1f ms  %d placed, %.1f%% capacity used%n",
+                label, best / 1e6, placed, planner.getUtilization() * 100);
+    }
+}
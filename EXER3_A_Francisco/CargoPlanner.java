@@ -0,0 +1,226 @@
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+public class CargoPlanner {
+    private static final int PARALLEL_THRESHOLD = 20_000; // shipments; smaller batches run on one thread
+
+    // Capacities are getCargoCapacityKg(), not getCapacity(): a truck's capacity counts seats,
+    // and shipment weights are kilograms
+    private final Transportation[] vehicles;
+    private final Map<Transportation, Integer> indexOf = new IdentityHashMap<>();
+    private final ForkJoinPool pool;
+    private final ShipmentTable placed = new ShipmentTable(); // shipment id -> vehicle and weight placed
+    private CapacityTree capacity;
+
+    public CargoPlanner(List<? extends Transportation> fleet, int threads) {
+        vehicles = fleet.toArray(new Transportation[0]);
+        for (Transportation v : vehicles) {
+            if (!(v instanceof Truck || v instanceof Ship || v instanceof Kariton)) {
+                throw new IllegalArgumentException(v.getName() + " cannot carry cargo; use a Truck, Ship or Kariton.");
+            }
+            if (v.getCargoCapacityKg() <= 0) {
+                throw new IllegalArgumentException(v.getName() + " has no cargo capacity; construct it with one in kg.");
+            }
+        }
+        for (int i = 0; i < vehicles.length; i++) {
+            indexOf.put(vehicles[i], i);
+        }
+        pool = new ForkJoinPool(threads);
+        reset();
+    }
+
+    public CargoPlanner(List<? extends Transportation> fleet) {
+        this(fleet, Runtime.getRuntime().availableProcessors());
+    }
+
+    // Empties every vehicle
+    public synchronized void reset() {
+        long[] remaining = new long[vehicles.length];
+        for (int i = 0; i < vehicles.length; i++) {
+            remaining[i] = vehicles[i].getCargoCapacityKg();
+        }
+        capacity = new CapacityTree(remaining);
+        placed.clear();
+    }
+
+    // Plans a whole batch from empty vehicles (first-fit decreasing).
+    // Big batches are split into groups of vehicles packed in parallel, then leftovers
+    // are placed sequentially into whatever capacity is still free anywhere.
+    public synchronized Transportation[] planAll(List<Shipment> shipments) {
+        ShipmentTable seen = new ShipmentTable();
+        for (Shipment shipment : shipments) {
+            if (seen.contains(shipment.getShipmentId())) {
+                throw new IllegalArgumentException("Duplicate shipment id " + shipment.getShipmentId() + " in batch.");
+            }
+            seen.put(shipment.getShipmentId(), ShipmentTable.pack(0, shipment.getWeightKg()));
+        }
+        reset();
+        Shipment[] sorted = shipments.toArray(new Shipment[0]);
+        Arrays.parallelSort(sorted, (a, b) -> Integer.compare(b.getWeightKg(), a.getWeightKg()));
+        int[] assigned = new int[sorted.length];
+        Arrays.fill(assigned, -1);
+
+        int groups = 1;
+        if (sorted.length >= PARALLEL_THRESHOLD && pool.getParallelism() > 1) {
+            groups = Math.min(pool.getParallelism() * 4, Math.max(1, vehicles.length / 64));
+        }
+        long[] remaining = new long[vehicles.length];
+        for (int i = 0; i < vehicles.length; i++) {
+            remaining[i] = vehicles[i].getCargoCapacityKg();
+        }
+        pool.invoke(new GroupTask(sorted, assigned, remaining, groups, 0, groups));
+
+        // Leftover pass over the combined remaining capacity
+        capacity = new CapacityTree(remaining);
+        for (int s = 0; s < sorted.length; s++) {
+            if (assigned[s] < 0) {
+                int v = capacity.firstFit(sorted[s].getWeightKg());
+                if (v >= 0) {
+                    capacity.use(v, sorted[s].getWeightKg());
+                    assigned[s] = v;
+                }
+            }
+        }
+
+        for (int s = 0; s < sorted.length; s++) {
+            if (assigned[s] >= 0) {
+                placed.put(sorted[s].getShipmentId(), ShipmentTable.pack(assigned[s], sorted[s].getWeightKg()));
+            }
+        }
+        return assignmentsFor(shipments);
+    }
+
+    // Incremental mode: places one new shipment into the current plan without replanning
+    public synchronized Transportation place(Shipment shipment) {
+        if (placed.contains(shipment.getShipmentId())) {
+            throw new IllegalArgumentException("Shipment " + shipment.getShipmentId() + " is already placed.");
+        }
+        int v = capacity.firstFit(shipment.getWeightKg());
+        if (v < 0) {
+            return null;
+        }
+        capacity.use(v, shipment.getWeightKg());
+        placed.put(shipment.getShipmentId(), ShipmentTable.pack(v, shipment.getWeightKg()));
+        return vehicles[v];
+    }
+
+    // Places one new shipment on a chosen vehicle (used by Truck.loadCargo); false if it does not fit there
+    public synchronized boolean placeOn(Transportation vehicle, Shipment shipment) {
+        Integer v = indexOf.get(vehicle);
+        if (v == null) {
+            throw new IllegalArgumentException(vehicle.getName() + " is not part of this planner's fleet.");
+        }
+        if (placed.contains(shipment.getShipmentId())) {
+            throw new IllegalArgumentException("Shipment " + shipment.getShipmentId() + " is already placed.");
+        }
+        if (capacity.remaining(v) < shipment.getWeightKg()) {
+            return false;
+        }
+        capacity.use(v, shipment.getWeightKg());
+        placed.put(shipment.getShipmentId(), ShipmentTable.pack(v, shipment.getWeightKg()));
+        return true;
+    }
+
+    // Takes a shipment back out of the plan and frees the space it was placed with
+    public synchronized boolean unload(Shipment shipment) {
+        long placement = placed.remove(shipment.getShipmentId());
+        if (placement == 0) {
+            return false;
+        }
+        int v = ShipmentTable.vehicleOf(placement);
+        capacity.set(v, capacity.remaining(v) + ShipmentTable.weightOf(placement));
+        return true;
+    }
+
+    public synchronized Transportation getVehicle(Shipment shipment) {
+        long placement = placed.get(shipment.getShipmentId());
+        return placement == 0 ? null : vehicles[ShipmentTable.vehicleOf(placement)];
+    }
+
+    public synchronized long getRemainingCapacity(int vehicleIndex) {
+        return capacity.remaining(vehicleIndex);
+    }
+
+    public synchronized long getUsedKg() {
+        long used = 0;
+        for (int i = 0; i < vehicles.length; i++) {
+            used += vehicles[i].getCargoCapacityKg() - capacity.remaining(i);
+        }
+        return used;
+    }
+
+    public synchronized double getUtilization() {
+        long total = 0;
+        long free = 0;
+        for (int i = 0; i < vehicles.length; i++) {
+            total += vehicles[i].getCargoCapacityKg();
+            free += capacity.remaining(i);
+        }
+        return total == 0 ? 0 : 1.0 - (double) free / total;
+    }
+
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    private synchronized Transportation[] assignmentsFor(List<Shipment> shipments) {
+        Transportation[] result = new Transportation[shipments.size()];
+        for (int i = 0; i < result.length; i++) {
+            long placement = placed.get(shipments.get(i).getShipmentId());
+            result[i] = placement == 0 ? null : vehicles[ShipmentTable.vehicleOf(placement)];
+        }
+        return result;
+    }
+
+    // Group g packs shipments g, g + groups, ... into vehicles g, g + groups, ...
+    private class GroupTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Shipment[] sorted;
+        private final int[] assigned;
+        private final long[] remaining;
+        private final int groups;
+        private final int from;
+        private final int to;
+
+        GroupTask(Shipment[] sorted, int[] assigned, long[] remaining, int groups, int from, int to) {
+            this.sorted = sorted;
+            this.assigned = assigned;
+            this.remaining = remaining;
+            this.groups = groups;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > 1) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new GroupTask(sorted, assigned, remaining, groups, from, mid),
+                          new GroupTask(sorted, assigned, remaining, groups, mid, to));
+                return;
+            }
+            int g = from;
+            int count = (vehicles.length - g + groups - 1) / groups;
+            long[] local = new long[Math.max(0, count)];
+            for (int k = 0; k < count; k++) {
+                local[k] = remaining[g + k * groups];
+            }
+            CapacityTree tree = new CapacityTree(local);
+            for (int s = g; s < sorted.length; s += groups) {
+                int k = tree.firstFit(sorted[s].getWeightKg());
+                if (k >= 0) {
+                    tree.use(k, sorted[s].getWeightKg());
+                    assigned[s] = g + k * groups;
+                }
+            }
+            for (int k = 0; k < count; k++) {
+                remaining[g + k * groups] = tree.remaining(k);
+            }
+        }
+    }
+}
@@ -0,0 +1,47 @@
+import java.util.List;
+import java.util.Random;
+
+public class EtaBenchmark {
+    public static void main(String[] args) {
+        int queries = args.length > 0 ? Integer.parseInt(args[0]) : 2_000_000;
+        List<Transportation> fleet = FleetSimulationTester.createFleet(20_000, 42);
+
+        // Pretend route computation is expensive (e.g. a road graph search)
+        TravelTimeLoader slowLoader = route -> {
+            double hours = EtaService.straightLineHours(route);
+            for (int i = 0; i < 2000; i++) {
+                hours += Math.sin(i) * 1e-12;
+            }
+            return hours;
+        };
+
+        // Dispatch requests cluster around a few depots
+        double[][] depots = {{100, 100}, {500, 500}, {800, 200}, {300, 900}};
+        Random random = new Random(7);
+
+        EtaService uncached = new EtaService(10.0, 0, slowLoader);
+        EtaService cached = new EtaService(10.0, 16L * 1024 * 1024, slowLoader);
+
+        for (EtaService service : new EtaService[] {uncached, cached}) {
+            long start = System.nanoTime();
+            double sum = 0;
+            for (int i = 0; i < queries; i++) {
+                Transportation v = fleet.get(random.nextInt(fleet.size()));
+                double[] depot = depots[random.nextInt(depots.length)];
+                sum += service.eta(v, depot[0], depot[1]);
+            }
+            double nanosPerQuery = (double) (System.nanoTime() - start) / queries;
+            System.out.println("--- " + (service == uncached ? "Without cache" : "With 16 MB LRU cache") + " ---");
+            System.out.printf("%.0f ns per ETA (checksum %.1f)%n", nanosPerQuery, sum);
+            service.displayStats();
+            System.out.println();
+        }
+
+        // A trip inside one grid cell still takes time: drive to the center of the vehicle's own cell
+        Transportation v = fleet.get(3);
+        double centerX = Math.floor(v.getX() / 10.0) * 10.0 + 5.0;
+        double centerY = Math.floor(v.getY() / 10.0) * 10.0 + 5.0;
+        System.out.printf("Same-cell trip of %.2f km for %s: %.3f h%n", Math.hypot(centerX - v.getX(), centerY - v.getY()),
+                v.getName(), cached.eta(v, centerX, centerY));
+    }
+}
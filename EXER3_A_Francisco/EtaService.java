@@ -0,0 +1,148 @@
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+public class EtaService {
+    // Rough heap cost of one cached route: RouteKey + boxed Double + LinkedHashMap entry
+    public static final int BYTES_PER_ENTRY = 56 + 16 + 40;
+
+    private static final int SEGMENTS = 16;
+
+    private final double cellSizeKm;
+    private final TravelTimeLoader loader;
+    private final Segment[] segments = new Segment[SEGMENTS];
+    private final boolean caching;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder loadNanos = new LongAdder();
+
+    // A budget too small for one entry per segment (including 0) turns caching off
+    public EtaService(double cellSizeKm, long maxBytes, TravelTimeLoader loader) {
+        if (maxBytes < 0) {
+            throw new IllegalArgumentException("Cache size cannot be negative.");
+        }
+        this.cellSizeKm = cellSizeKm;
+        this.loader = loader;
+        int perSegment = (int) Math.min(Integer.MAX_VALUE, maxBytes / BYTES_PER_ENTRY / SEGMENTS);
+        this.caching = perSegment > 0;
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments[i] = new Segment(perSegment);
+        }
+    }
+
+    public EtaService(double cellSizeKm, long maxBytes) {
+        this(cellSizeKm, maxBytes, EtaService::straightLineHours);
+    }
+
+    // Default loader: distance between cell centers, with a detour factor for roads and sea lanes
+    public static double straightLineHours(RouteKey route) {
+        return straightLineHours(route.getVehicleType(), route.getDistanceKm(), route.getSpeed());
+    }
+
+    public static double straightLineHours(VehicleType type, double distanceKm, double speed) {
+        double detour = type.isAir() ? 1.0 : (type.isWater() ? 1.15 : 1.3);
+        return distanceKm * detour / Math.max(0.001, speed);
+    }
+
+    // Travel time in hours from the vehicle's current position to (toX, toY).
+    // Trips inside one grid cell have no useful cell-to-cell route, so they use the exact distance.
+    public double eta(Transportation vehicle, double toX, double toY) {
+        double x = vehicle.getX();
+        double y = vehicle.getY();
+        int fromCellX = cell(x);
+        int fromCellY = cell(y);
+        int toCellX = cell(toX);
+        int toCellY = cell(toY);
+        VehicleType type = VehicleType.of(vehicle);
+        if (fromCellX == toCellX && fromCellY == toCellY) {
+            return straightLineHours(type, Math.hypot(toX - x, toY - y), vehicle.getSpeed());
+        }
+        return get(new RouteKey(fromCellX, fromCellY, toCellX, toCellY, type, vehicle.getSpeed(), cellSizeKm));
+    }
+
+    public double get(RouteKey route) {
+        if (!caching) {
+            return load(route);
+        }
+        Segment segment = segments[(route.hashCode() ^ (route.hashCode() >>> 16)) & (SEGMENTS - 1)];
+        synchronized (segment) {
+            Double cached = segment.get(route);
+            if (cached != null) {
+                hits.increment();
+                return cached;
+            }
+        }
+        // Load outside the lock so a slow loader does not block other lookups
+        double hours = load(route);
+        synchronized (segment) {
+            segment.put(route, hours);
+        }
+        return hours;
+    }
+
+    private double load(RouteKey route) {
+        misses.increment();
+        long start = System.nanoTime();
+        double hours = loader.travelHours(route);
+        loadNanos.add(System.nanoTime() - start);
+        return hours;
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+    public long getMisses() {
+        return misses.sum();
+    }
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    public double getHitRate() {
+        long total = getHits() + getMisses();
+        return total == 0 ? 0 : (double) getHits() / total;
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    public void displayStats() {
+        System.out.println("Cached routes: " + size() + " (~" + (size() * (long) BYTES_PER_ENTRY / 1024) + " KB)");
+        System.out.println("Hits: " + getHits() + ", Misses: " + getMisses() + ", Evictions: " + getEvictions());
+        System.out.println("Hit rate: " + String.format("%.1f%%", getHitRate() * 100));
+        System.out.println("Average load time: " + String.format("%.0f ns", (double) loadNanos.sum() / Math.max(1, getMisses())));
+    }
+
+    private int cell(double km) {
+        return (int) Math.floor(km / cellSizeKm);
+    }
+
+    // One LRU partition; LinkedHashMap in access order drops the least recently used route
+    private class Segment extends LinkedHashMap<RouteKey, Double> {
+        private static final long serialVersionUID = 1L;
+
+        private final int maxEntries;
+
+        Segment(int maxEntries) {
+            super(16, 0.75f, true);
+            this.maxEntries = maxEntries;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<RouteKey, Double> eldest) {
+            if (size() > maxEntries) {
+                evictions.increment();
+                return true;
+            }
+            return false;
+        }
+    }
+}
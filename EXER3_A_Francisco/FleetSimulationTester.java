@@ -0,0 +1,52 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public class FleetSimulationTester {
+    public static void main(String[] args) {
+        int vehicles = args.length > 0 ? Integer.parseInt(args[0]) : 300_000;
+        int ticks = args.length > 1 ? Integer.parseInt(args[1]) : 100;
+        int threads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+
+        List<Transportation> fleet = createFleet(vehicles, 42);
+        FleetSimulator simulator = new FleetSimulator(fleet, 1.0, threads);
+
+        System.out.println("--- Fleet Simulation (" + threads + " thread(s), 1 s per tick) ---");
+        simulator.run(ticks);
+        simulator.displayStats();
+        simulator.shutdown();
+
+        System.out.println("\n--- Sample Vehicles ---");
+        for (int i = 0; i < 11; i++) {
+            Transportation v = fleet.get(i);
+            System.out.printf("%-16s (%.2f, %.2f) km, %.0f m, %.1f km/h%n",
+                    v.getName(), v.getX(), v.getY(), v.getAltitude(), v.getCurrentSpeed());
+        }
+    }
+
+    // Mix of every vehicle type with random start positions and headings
+    public static List<Transportation> createFleet(int count, long seed) {
+        Random random = new Random(seed);
+        List<Transportation> fleet = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Transportation v;
+            switch (i % 11) {
+                case 0: v = new Helicopter("Bell 429", 8, 287, 6096); break;
+                case 1: v = new Airplane("Airbus A320", 180, 840, 12000); break;
+                case 2: v = new SpaceShuttle("Atlantis", 7, 28000, 600000); break;
+                case 3: v = new Truck("Peterbilt 379", 3, 110, 18); break;
+                case 4: v = new Kariton("Wooden Kariton", 200); break;
+                case 5: v = new Motorcycle("Honda Click", 2, 100); break;
+                case 6: v = new Tricycle("Tricycle", 6, 40); break;
+                case 7: v = new SUV("Toyota Fortuner", 7, 180, 4); break;
+                case 8: v = new Ship("RMS Titanic", 2435, 39, 52310); break;
+                case 9: v = new Submarine("Nautilus", 116, 43, 4000); break;
+                default: v = new Transportation("Bangka", 10, 20); break;
+            }
+            v.setPosition(random.nextDouble() * 1000, random.nextDouble() * 1000);
+            v.setHeading(random.nextDouble() * 2 * Math.PI);
+            fleet.add(v);
+        }
+        return fleet;
+    }
+}
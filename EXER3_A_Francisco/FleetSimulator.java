@@ -0,0 +1,106 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+public class FleetSimulator {
+    private static final int CHUNK_SIZE = 4096; // vehicles per task
+
+    private final List<Transportation> fleet;
+    private final FleetStore store; // set instead of fleet when simulating the column layout
+    private final double tickHours;
+    private final ForkJoinPool pool;
+    private long ticks;
+    private long simulatedNanos;
+
+    public FleetSimulator(List<Transportation> fleet, double tickSeconds, int threads) {
+        this.fleet = new ArrayList<>(fleet);
+        this.store = null;
+        this.tickHours = tickSeconds / 3600.0;
+        this.pool = new ForkJoinPool(threads);
+    }
+
+    public FleetSimulator(FleetStore store, double tickSeconds, int threads) {
+        this.fleet = null;
+        this.store = store;
+        this.tickHours = tickSeconds / 3600.0;
+        this.pool = new ForkJoinPool(threads);
+    }
+
+    public FleetSimulator(List<Transportation> fleet, double tickSeconds) {
+        this(fleet, tickSeconds, Runtime.getRuntime().availableProcessors());
+    }
+
+    // Advances every vehicle by one fixed timestep; vehicles are split across cores
+    public void tick() {
+        long start = System.nanoTime();
+        pool.invoke(new TickTask(0, size()));
+        simulatedNanos += System.nanoTime() - start;
+        ticks++;
+    }
+
+    public void run(int tickCount) {
+        for (int i = 0; i < tickCount; i++) {
+            tick();
+        }
+    }
+
+    public long getTicks() {
+        return ticks;
+    }
+
+    public double getTicksPerSecond() {
+        return simulatedNanos == 0 ? 0 : ticks / (simulatedNanos / 1e9);
+    }
+
+    public double getVehicleUpdatesPerSecond() {
+        return getTicksPerSecond() * size();
+    }
+
+    public int size() {
+        return store != null ? store.size() : fleet.size();
+    }
+
+    public double getSimulatedHours() {
+        return ticks * tickHours;
+    }
+
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    public void displayStats() {
+        System.out.println("Vehicles: " + size());
+        System.out.println("Ticks: " + ticks + " (" + String.format("%.2f", getSimulatedHours()) + " simulated hours)");
+        System.out.println("Ticks/second: " + String.format("%.1f", getTicksPerSecond()));
+        System.out.println("Vehicle updates/second: " + String.format("%.0f", getVehicleUpdatesPerSecond()));
+    }
+
+    private class TickTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+
+        TickTask(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= CHUNK_SIZE) {
+                if (store != null) {
+                    store.advance(from, to, tickHours);
+                    return;
+                }
+                for (int i = from; i < to; i++) {
+                    fleet.get(i).advance(tickHours);
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new TickTask(from, mid), new TickTask(mid, to));
+        }
+    }
+}
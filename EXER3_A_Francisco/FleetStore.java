@@ -0,0 +1,305 @@
+import java.util.Arrays;
+import java.util.List;
+
+public class FleetStore {
+    private static final VehicleType[] TYPES = VehicleType.values();
+
+    // One array per attribute instead of one object per vehicle
+    private String[] names;
+    private int[] capacities;
+    private int[] cargoCapacities; // kg
+    private double[] speeds;
+    private byte[] types;
+    private double[] specs;         // numWheels, maxAltitude or displacement depending on type
+    private double[] xs;
+    private double[] ys;
+    private double[] altitudes;
+    private double[] headings;
+    private double[] currentSpeeds;
+    private int size;
+
+    public FleetStore(int initialCapacity) {
+        allocate(Math.max(16, initialCapacity));
+    }
+
+    public FleetStore(List<? extends Transportation> fleet) {
+        this(fleet.size());
+        for (Transportation vehicle : fleet) {
+            add(vehicle);
+        }
+    }
+
+    public int add(Transportation vehicle) {
+        if (size == names.length) {
+            grow();
+        }
+        VehicleType type = VehicleType.of(vehicle);
+        int i = size++;
+        names[i] = vehicle.getName();
+        capacities[i] = vehicle.getCapacity();
+        cargoCapacities[i] = vehicle.getCargoCapacityKg();
+        speeds[i] = vehicle.getSpeed();
+        types[i] = (byte) type.ordinal();
+        if (vehicle instanceof LandTransport) {
+            specs[i] = ((LandTransport) vehicle).getNumWheels();
+        } else if (vehicle instanceof AirTransport) {
+            specs[i] = ((AirTransport) vehicle).getMaxAltitude();
+        } else if (vehicle instanceof WaterTransport) {
+            specs[i] = ((WaterTransport) vehicle).getDisplacement();
+        }
+        xs[i] = vehicle.getX();
+        ys[i] = vehicle.getY();
+        altitudes[i] = vehicle.getAltitude();
+        headings[i] = vehicle.getHeading();
+        currentSpeeds[i] = vehicle.getCurrentSpeed();
+        return i;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public VehicleType getType(int i) {
+        return TYPES[types[i]];
+    }
+    public int getCapacity(int i) {
+        return capacities[i];
+    }
+    public double getSpeed(int i) {
+        return speeds[i];
+    }
+    public double getX(int i) {
+        return xs[i];
+    }
+    public double getY(int i) {
+        return ys[i];
+    }
+    public double getAltitude(int i) {
+        return altitudes[i];
+    }
+
+    // Live Transportation view of one vehicle: position, heading, altitude and current speed
+    // are read from and written to the arrays, so legacy code that moves it moves the store
+    public Vehicle get(int i) {
+        checkIndex(i);
+        return new Vehicle(i);
+    }
+
+    // Detached copy of the concrete subclass (for code that needs e.g. an AirTransport);
+    // changes to it reach the store only through update()
+    public Transportation toTransportation(int i) {
+        checkIndex(i);
+        String name = names[i];
+        int capacity = capacities[i];
+        double speed = speeds[i];
+        double spec = specs[i];
+        Transportation v;
+        switch (getType(i)) {
+            case HELICOPTER: v = new Helicopter(name, capacity, speed, spec); break;
+            case AIRPLANE: v = new Airplane(name, capacity, speed, spec); break;
+            case SPACE_SHUTTLE: v = new SpaceShuttle(name, capacity, speed, spec); break;
+            case AIR: v = new AirTransport(name, capacity, speed, spec); break;
+            case TRUCK: v = new Truck(name, capacity, speed, (int) spec); break;
+            case KARITON: v = new Kariton(name, capacity); break;
+            case MOTORCYCLE: v = new Motorcycle(name, capacity, speed); break;
+            case TRICYCLE: v = new Tricycle(name, capacity, speed); break;
+            case SUV: v = new SUV(name, capacity, speed, (int) spec); break;
+            case LAND: v = new LandTransport(name, capacity, speed, (int) spec); break;
+            case SHIP: v = new Ship(name, capacity, speed, spec); break;
+            case SUBMARINE: v = new Submarine(name, capacity, speed, spec); break;
+            case WATER: v = new WaterTransport(name, capacity, speed, spec); break;
+            default: v = new Transportation(name, capacity, speed); break;
+        }
+        v.cargoCapacityKg = cargoCapacities[i];
+        v.x = xs[i];
+        v.y = ys[i];
+        v.altitude = altitudes[i];
+        v.heading = headings[i];
+        v.currentSpeed = currentSpeeds[i];
+        return v;
+    }
+
+    // Writes the movement state of a detached copy back into row i
+    public void update(int i, Transportation vehicle) {
+        checkIndex(i);
+        if (VehicleType.of(vehicle) != getType(i)) {
+            throw new IllegalArgumentException("Vehicle " + i + " is a " + getType(i) + ", not a " + VehicleType.of(vehicle));
+        }
+        xs[i] = vehicle.getX();
+        ys[i] = vehicle.getY();
+        altitudes[i] = vehicle.getAltitude();
+        headings[i] = vehicle.getHeading();
+        currentSpeeds[i] = vehicle.getCurrentSpeed();
+    }
+
+    // ---- Bulk queries: straight loops over primitive arrays ----
+
+    public long totalCapacity() {
+        long total = 0;
+        for (int i = 0; i < size; i++) {
+            total += capacities[i];
+        }
+        return total;
+    }
+
+    public long totalCapacity(VehicleType type) {
+        byte tag = (byte) type.ordinal();
+        long total = 0;
+        for (int i = 0; i < size; i++) {
+            total += types[i] == tag ? capacities[i] : 0;
+        }
+        return total;
+    }
+
+    public double averageSpeed() {
+        double total = 0;
+        for (int i = 0; i < size; i++) {
+            total += speeds[i];
+        }
+        return size == 0 ? 0 : total / size;
+    }
+
+    public int[] countByType() {
+        int[] counts = new int[TYPES.length];
+        for (int i = 0; i < size; i++) {
+            counts[types[i]]++;
+        }
+        return counts;
+    }
+
+    // Indexes of vehicles of the given type with at least minCapacity
+    public int[] filter(VehicleType type, int minCapacity) {
+        byte tag = (byte) type.ordinal();
+        int[] matches = new int[16];
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (types[i] == tag && capacities[i] >= minCapacity) {
+                if (count == matches.length) {
+                    matches = Arrays.copyOf(matches, count * 2);
+                }
+                matches[count++] = i;
+            }
+        }
+        return Arrays.copyOf(matches, count);
+    }
+
+    // Advances vehicles [from, to) by one step with the same kernels as Transportation.advance
+    // and its overrides; FleetSimulator splits the range across its own pool
+    public void advance(int from, int to, double hours) {
+        for (int i = from; i < to; i++) {
+            VehicleType type = TYPES[types[i]];
+            double acceleration = type.isWater()
+                    ? WaterTransport.accelerationFor(specs[i])
+                    : Transportation.DEFAULT_ACCELERATION;
+            double current = Transportation.approachSpeed(currentSpeeds[i], speeds[i], acceleration, hours);
+            currentSpeeds[i] = current;
+            double distance = current * hours;
+            xs[i] += Math.cos(headings[i]) * distance;
+            ys[i] += Math.sin(headings[i]) * distance;
+            if (type.isAir()) {
+                altitudes[i] = AirTransport.climb(altitudes[i], specs[i], hours);
+            }
+        }
+    }
+
+    private void checkIndex(int i) {
+        if (i < 0 || i >= size) {
+            throw new IndexOutOfBoundsException("Vehicle " + i + " out of bounds for size " + size);
+        }
+    }
+
+    private void allocate(int capacity) {
+        names = new String[capacity];
+        capacities = new int[capacity];
+        cargoCapacities = new int[capacity];
+        speeds = new double[capacity];
+        types = new byte[capacity];
+        specs = new double[capacity];
+        xs = new double[capacity];
+        ys = new double[capacity];
+        altitudes = new double[capacity];
+        headings = new double[capacity];
+        currentSpeeds = new double[capacity];
+    }
+
+    private void grow() {
+        int capacity = names.length * 2;
+        names = Arrays.copyOf(names, capacity);
+        capacities = Arrays.copyOf(capacities, capacity);
+        cargoCapacities = Arrays.copyOf(cargoCapacities, capacity);
+        speeds = Arrays.copyOf(speeds, capacity);
+        types = Arrays.copyOf(types, capacity);
+        specs = Arrays.copyOf(specs, capacity);
+        xs = Arrays.copyOf(xs, capacity);
+        ys = Arrays.copyOf(ys, capacity);
+        altitudes = Arrays.copyOf(altitudes, capacity);
+        headings = Arrays.copyOf(headings, capacity);
+        currentSpeeds = Arrays.copyOf(currentSpeeds, capacity);
+    }
+
+    // Name, capacity and speed never change in the store, so the inherited fields hold them;
+    // the movement state lives only in the arrays (the inherited x, y, ... fields stay unused)
+    public class Vehicle extends Transportation {
+        private final int index;
+
+        private Vehicle(int index) {
+            super(names[index], capacities[index], speeds[index]);
+            this.index = index;
+            cargoCapacityKg = cargoCapacities[index];
+        }
+
+        public int getIndex() {
+            return index;
+        }
+        public VehicleType getType() {
+            return FleetStore.this.getType(index);
+        }
+        @Override
+        public double getX() {
+            return xs[index];
+        }
+        @Override
+        public double getY() {
+            return ys[index];
+        }
+        @Override
+        public double getAltitude() {
+            return altitudes[index];
+        }
+        @Override
+        public double getHeading() {
+            return headings[index];
+        }
+        @Override
+        public double getCurrentSpeed() {
+            return currentSpeeds[index];
+        }
+
+        @Override
+        public void setPosition(double x, double y) {
+            xs[index] = x;
+            ys[index] = y;
+        }
+        @Override
+        public void setHeading(double heading) {
+            headings[index] = heading;
+        }
+
+        // Same step as the concrete subclass would take, including climbing and water acceleration
+        @Override
+        public void advance(double hours) {
+            FleetStore.this.advance(index, index + 1, hours);
+        }
+
+        @Override
+        protected double acceleration() {
+            return getType().isWater() ? WaterTransport.accelerationFor(specs[index]) : DEFAULT_ACCELERATION;
+        }
+
+        // Prints the subclass details too (wheels, max altitude or displacement)
+        @Override
+        public void displayInfo() {
+            toTransportation(index).displayInfo();
+        }
+    }
+}
@@ -0,0 +1,124 @@
+import java.util.List;
+
+public class FleetStoreBenchmark {
+    public static void main(String[] args) {
+        int vehicles = args.length > 0 ? Integer.parseInt(args[0]) : 2_000_000;
+        int rounds = 20;
+
+        List<Transportation> fleet = FleetSimulationTester.createFleet(vehicles, 42);
+        FleetStore store = new FleetStore(fleet);
+
+        System.out.println("--- Bulk Fleet Queries (" + vehicles + " vehicles, best of " + rounds + ") ---");
+
+        long best = Long.MAX_VALUE;
+        long objectCapacity = 0;
+        for (int r = 0; r < rounds; r++) {
+            long start = System.nanoTime();
+            objectCapacity = 0;
+            for (Transportation v : fleet) {
+                objectCapacity += v.getCapacity();
+            }
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        report("Total capacity (objects)", best, objectCapacity);
+
+        best = Long.MAX_VALUE;
+        long storeCapacity = 0;
+        for (int r = 0; r < rounds; r++) {
+            long start = System.nanoTime();
+            storeCapacity = store.totalCapacity();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        report("Total capacity (FleetStore)", best, storeCapacity);
+
+        best = Long.MAX_VALUE;
+        double objectSpeed = 0;
+        for (int r = 0; r < rounds; r++) {
+            long start = System.nanoTime();
+            double total = 0;
+            for (Transportation v : fleet) {
+                total += v.getSpeed();
+            }
+            objectSpeed = total / fleet.size();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        report("Average speed (objects)", best, objectSpeed);
+
+        best = Long.MAX_VALUE;
+        double storeSpeed = 0;
+        for (int r = 0; r < rounds; r++) {
+            long start = System.nanoTime();
+            storeSpeed = store.averageSpeed();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        report("Average speed (FleetStore)", best, storeSpeed);
+
+        best = Long.MAX_VALUE;
+        int objectMatches = 0;
+        for (int r = 0; r < rounds; r++) {
+            long start = System.nanoTime();
+            objectMatches = 0;
+            for (Transportation v : fleet) {
+                if (v instanceof Ship && v.getCapacity() >= 1000) {
+                    objectMatches++;
+                }
+            }
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        report("Ships >= 1000 (objects)", best, objectMatches);
+
+        best = Long.MAX_VALUE;
+        int storeMatches = 0;
+        for (int r = 0; r < rounds; r++) {
+            long start = System.nanoTime();
+            storeMatches = store.filter(VehicleType.SHIP, 1000).length;
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        report("Ships >= 1000 (FleetStore)", best, storeMatches);
+
+        //Same ticks through FleetSimulator's pool: objects vs columns must end in the same place
+        int ticks = 20;
+        int threads = Runtime.getRuntime().availableProcessors();
+        FleetSimulator objectSim = new FleetSimulator(fleet, 1.0, threads);
+        long start = System.nanoTime();
+        objectSim.run(ticks);
+        report("Advance " + ticks + " ticks (objects)", System.nanoTime() - start, ticks);
+        objectSim.shutdown();
+        FleetSimulator storeSim = new FleetSimulator(store, 1.0, threads);
+        start = System.nanoTime();
+        storeSim.run(ticks);
+        report("Advance " + ticks + " ticks (FleetStore)", System.nanoTime() - start, ticks);
+        storeSim.shutdown();
+        for (int i = 0; i < vehicles; i++) {
+            Transportation v = fleet.get(i);
+            if (v.getX() != store.getX(i) || v.getY() != store.getY(i) || v.getAltitude() != store.getAltitude(i)) {
+                throw new IllegalStateException("FleetStore diverged from the objects at vehicle " + i);
+            }
+        }
+
+        System.out.println();
+        System.out.println("Live view of vehicle 8:");
+        FleetStore.Vehicle view = store.get(8);
+        view.setPosition(0, 0);
+        System.out.printf("%s moved to (%.1f, %.1f) in the store%n", view.getName(), store.getX(8), store.getY(8));
+        view.displayInfo();
+
+        // Legacy code only sees a Transportation; moving the view moves the store
+        Transportation legacy = store.get(3);
+        Transportation copy = store.toTransportation(3);
+        legacy.advance(0.5);
+        copy.advance(0.5);
+        if (store.getX(3) != copy.getX() || store.getAltitude(3) != copy.getAltitude()) {
+            throw new IllegalStateException("View and copy advanced differently");
+        }
+        // A detached copy is written back explicitly
+        copy.setPosition(1, 2);
+        store.update(3, copy);
+        System.out.printf("%s advanced through its view and was written back to (%.1f, %.1f)%n",
+                legacy.getName(), store.getX(3), store.getY(3));
+    }
+
+    private static void report(String label, long nanos, double result) {
+        System.out.printf("%-30s %8.2f ms   result = %.2f%n", label, nanos / 1e6, result);
+    }
+}
@@ -1,6 +1,7 @@
 public class Kariton extends LandTransport {
     public Kariton(String name, int capacity) {
         super(name, capacity, 3, 2); // A pushcart has low speed
+        cargoCapacityKg = capacity; // Nobody rides a kariton; its capacity is the load in kg
     }
     @Override
     public void move() { System.out.println(name + " is being pushed."); }
@@ -6,6 +6,10 @@ public class LandTransport extends Transportation {
         this.numWheels = numWheels;
     }
 
+    public int getNumWheels() {
+        return numWheels;
+    }
+
     public void drive() {
         System.out.println(name + " is driving on land.");
     }
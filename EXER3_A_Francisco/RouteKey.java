@@ -0,0 +1,75 @@
+public final class RouteKey {
+    private final int fromCellX;
+    private final int fromCellY;
+    private final int toCellX;
+    private final int toCellY;
+    private final VehicleType vehicleType;
+    private final double speed;
+    private final double cellSizeKm;
+    private final int hash;
+
+    public RouteKey(int fromCellX, int fromCellY, int toCellX, int toCellY,
+                    VehicleType vehicleType, double speed, double cellSizeKm) {
+        this.fromCellX = fromCellX;
+        this.fromCellY = fromCellY;
+        this.toCellX = toCellX;
+        this.toCellY = toCellY;
+        this.vehicleType = vehicleType;
+        this.speed = speed;
+        this.cellSizeKm = cellSizeKm;
+        int h = fromCellX;
+        h = 31 * h + fromCellY;
+        h = 31 * h + toCellX;
+        h = 31 * h + toCellY;
+        h = 31 * h + vehicleType.ordinal();
+        h = 31 * h + Double.hashCode(speed);
+        this.hash = h;
+    }
+
+    public int getFromCellX() {
+        return fromCellX;
+    }
+    public int getFromCellY() {
+        return fromCellY;
+    }
+    public int getToCellX() {
+        return toCellX;
+    }
+    public int getToCellY() {
+        return toCellY;
+    }
+    public VehicleType getVehicleType() {
+        return vehicleType;
+    }
+    public double getSpeed() {
+        return speed;
+    }
+
+    // Straight-line distance between the two cell centers
+    public double getDistanceKm() {
+        double dx = (toCellX - fromCellX) * cellSizeKm;
+        double dy = (toCellY - fromCellY) * cellSizeKm;
+        return Math.sqrt(dx * dx + dy * dy);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof RouteKey)) {
+            return false;
+        }
+        RouteKey other = (RouteKey) o;
+        return fromCellX == other.fromCellX && fromCellY == other.fromCellY
+                && toCellX == other.toCellX && toCellY == other.toCellY
+                && vehicleType == other.vehicleType
+                && Double.compare(speed, other.speed) == 0
+                && Double.compare(cellSizeKm, other.cellSizeKm) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+}
@@ -2,5 +2,10 @@ public class Ship extends WaterTransport {
     public Ship(String name, int capacity, double speed, double displacement) {
         super(name, capacity, speed, displacement);
     }
+    // capacity is passengers; cargoCapacityKg is what the holds can carry
+    public Ship(String name, int capacity, double speed, double displacement, int cargoCapacityKg) {
+        this(name, capacity, speed, displacement);
+        this.cargoCapacityKg = cargoCapacityKg;
+    }
     public void soundHorn() { System.out.println(name + " sounds its horn!"); }
 }
@@ -0,0 +1,20 @@
+public class Shipment {
+    private int shipmentId;
+    private int weightKg;
+
+    public Shipment(int shipmentId, int weightKg) {
+        if (weightKg <= 0) {
+            throw new IllegalArgumentException("Shipment weight must be positive.");
+        }
+        this.shipmentId = shipmentId;
+        this.weightKg = weightKg;
+    }
+
+    public int getShipmentId() {
+        return shipmentId;
+    }
+
+    public int getWeightKg() {
+        return weightKg;
+    }
+}
@@ -0,0 +1,113 @@
+import java.util.Arrays;
+
+// Open-addressing map from shipment id to (vehicle index, placed weight), packed into one long.
+// No Integer boxing and no entry objects; used by CargoPlanner under its own lock.
+class ShipmentTable {
+    private static final long EMPTY = 0; // a placement always has weight > 0, so it never packs to 0
+
+    private int[] ids;
+    private long[] placements;
+    private int size;
+
+    ShipmentTable() {
+        ids = new int[16];
+        placements = new long[16];
+    }
+
+    static long pack(int vehicle, int weightKg) {
+        return ((long) vehicle << 32) | weightKg;
+    }
+
+    static int vehicleOf(long placement) {
+        return (int) (placement >>> 32);
+    }
+
+    static int weightOf(long placement) {
+        return (int) placement;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean contains(int id) {
+        return placements[slotOf(id)] != EMPTY;
+    }
+
+    // The packed placement, or EMPTY
+    long get(int id) {
+        return placements[slotOf(id)];
+    }
+
+    void put(int id, long placement) {
+        int i = slotOf(id);
+        if (placements[i] == EMPTY) {
+            size++;
+        }
+        ids[i] = id;
+        placements[i] = placement;
+        if (size * 2 > ids.length) {
+            resize(ids.length * 2);
+        }
+    }
+
+    // Removes and returns the placement, or EMPTY
+    long remove(int id) {
+        int i = slotOf(id);
+        long old = placements[i];
+        if (old == EMPTY) {
+            return EMPTY;
+        }
+        placements[i] = EMPTY;
+        size--;
+        // Shift later entries of the probe chain back so lookups never stop at the hole
+        int mask = ids.length - 1;
+        for (int j = (i + 1) & mask; placements[j] != EMPTY; j = (j + 1) & mask) {
+            int home = mix(ids[j]) & mask;
+            if (((j - home) & mask) >= ((j - i) & mask)) {
+                ids[i] = ids[j];
+                placements[i] = placements[j];
+                placements[j] = EMPTY;
+                i = j;
+            }
+        }
+        return old;
+    }
+
+    void clear() {
+        Arrays.fill(placements, EMPTY);
+        size = 0;
+    }
+
+    private int slotOf(int id) {
+        int mask = ids.length - 1;
+        int i = mix(id) & mask;
+        while (placements[i] != EMPTY && ids[i] != id) {
+            i = (i + 1) & mask;
+        }
+        return i;
+    }
+
+    private void resize(int capacity) {
+        int[] oldIds = ids;
+        long[] oldPlacements = placements;
+        ids = new int[capacity];
+        placements = new long[capacity];
+        int mask = capacity - 1;
+        for (int j = 0; j < oldIds.length; j++) {
+            if (oldPlacements[j] != EMPTY) {
+                int i = mix(oldIds[j]) & mask;
+                while (placements[i] != EMPTY) {
+                    i = (i + 1) & mask;
+                }
+                ids[i] = oldIds[j];
+                placements[i] = oldPlacements[j];
+            }
+        }
+    }
+
+    private static int mix(int id) {
+        int h = id * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,207 @@
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+public class SpatialIndex {
+    private final double cellSizeKm;
+    // Only occupied cells are kept; a cell is dropped as soon as its last vehicle leaves
+    private final ConcurrentHashMap<Long, ConcurrentHashMap<Transportation, Position>> cells = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Transportation, Position> positionOf = new ConcurrentHashMap<>();
+
+    // Position the index filed a vehicle under. Searches measure distance from this immutable
+    // copy, never from the vehicle's own fields, so a concurrent move cannot tear x from y.
+    private static final class Position {
+        final double x;
+        final double y;
+        final double altitude;
+        final long cell;
+
+        Position(double x, double y, double altitude, long cell) {
+            this.x = x;
+            this.y = y;
+            this.altitude = altitude;
+            this.cell = cell;
+        }
+    }
+
+    public SpatialIndex(double cellSizeKm) {
+        if (cellSizeKm <= 0) {
+            throw new IllegalArgumentException("Cell size must be positive.");
+        }
+        this.cellSizeKm = cellSizeKm;
+    }
+
+    public void add(Transportation vehicle) {
+        update(vehicle);
+    }
+
+    public void remove(Transportation vehicle) {
+        positionOf.computeIfPresent(vehicle, (v, old) -> {
+            removeFromCell(old.cell, v);
+            return null;
+        });
+    }
+
+    // Moves the vehicle and updates its cell; safe to call from many threads
+    public void move(Transportation vehicle, double x, double y) {
+        positionOf.compute(vehicle, (v, old) -> {
+            v.setPosition(x, y);
+            return relocate(v, old, x, y, v.getAltitude());
+        });
+    }
+
+    // Re-files a vehicle whose position was changed elsewhere. Call it only while nothing else
+    // writes that vehicle, e.g. after FleetSimulator.tick() has returned.
+    public void update(Transportation vehicle) {
+        positionOf.compute(vehicle, (v, old) -> relocate(v, old, v.getX(), v.getY(), v.getAltitude()));
+    }
+
+    public int size() {
+        return positionOf.size();
+    }
+
+    public int occupiedCells() {
+        return cells.size();
+    }
+
+    // The k closest vehicles with at least minCapacity that pass the availability check.
+    // Distance is 3D (altitude counts) for air transport and 2D for everything else.
+    public List<Transportation> nearest(double x, double y, double altitudeMeters, int k,
+                                        int minCapacity, Predicate<Transportation> available) {
+        if (k <= 0 || positionOf.isEmpty()) {
+            return Collections.emptyList();
+        }
+        // Max-heap on distance holding the best k found so far
+        PriorityQueue<double[]> best = new PriorityQueue<>((a, b) -> Double.compare(b[0], a[0]));
+        ArrayList<Transportation> found = new ArrayList<>();
+
+        int cx = cellIndex(x);
+        int cy = cellIndex(y);
+        // Walk rings only while a ring costs no more than visiting every occupied cell once
+        int maxRing = (int) Math.sqrt(cells.size()) / 2;
+        int ring = 0;
+        for (; ring <= maxRing; ring++) {
+            // Every vehicle in this ring or beyond is at least (ring - 1) cells away
+            if (isSettled(best, k, ring)) {
+                return sorted(best, found);
+            }
+            for (int gx = cx - ring; gx <= cx + ring; gx++) {
+                boolean edgeColumn = gx == cx - ring || gx == cx + ring;
+                int step = edgeColumn ? 1 : 2 * ring;
+                for (int gy = cy - ring; gy <= cy + ring; gy += Math.max(1, step)) {
+                    scanCell(cells.get(key(gx, gy)), best, found, k, x, y, altitudeMeters, minCapacity, available);
+                }
+            }
+        }
+
+        // Sparse or far-flung fleet: check the remaining occupied cells directly, skipping any
+        // whose ring already lies beyond the k-th best distance
+        for (Map.Entry<Long, ConcurrentHashMap<Transportation, Position>> entry : cells.entrySet()) {
+            long cell = entry.getKey();
+            int cellRing = Math.max(Math.abs((int) (cell >> 32) - cx), Math.abs((int) cell - cy));
+            if (cellRing < ring || isSettled(best, k, cellRing)) {
+                continue;
+            }
+            scanCell(entry.getValue(), best, found, k, x, y, altitudeMeters, minCapacity, available);
+        }
+        return sorted(best, found);
+    }
+
+    public Transportation nearestAvailable(double x, double y, double altitudeMeters, int minCapacity,
+                                           Predicate<Transportation> available) {
+        List<Transportation> result = nearest(x, y, altitudeMeters, 1, minCapacity, available);
+        return result.isEmpty() ? null : result.get(0);
+    }
+
+    public static double distance(Transportation v, double x, double y, double altitudeMeters) {
+        return distance(v, v.getX(), v.getY(), v.getAltitude(), x, y, altitudeMeters);
+    }
+
+    private static double distance(Transportation v, double vx, double vy, double vAltitude,
+                                   double x, double y, double altitudeMeters) {
+        double dx = vx - x;
+        double dy = vy - y;
+        double dz = v instanceof AirTransport ? (vAltitude - altitudeMeters) / 1000.0 : 0;
+        return Math.sqrt(dx * dx + dy * dy + dz * dz);
+    }
+
+    private boolean isSettled(PriorityQueue<double[]> best, int k, int ring) {
+        return best.size() == k && best.peek()[0] <= (ring - 1) * cellSizeKm;
+    }
+
+    private static void scanCell(ConcurrentHashMap<Transportation, Position> cell, PriorityQueue<double[]> best,
+                                 ArrayList<Transportation> found, int k, double x, double y, double altitudeMeters,
+                                 int minCapacity, Predicate<Transportation> available) {
+        if (cell == null) {
+            return;
+        }
+        for (Map.Entry<Transportation, Position> member : cell.entrySet()) {
+            Transportation v = member.getKey();
+            if (v.getCapacity() < minCapacity || !available.test(v)) {
+                continue;
+            }
+            Position p = member.getValue();
+            double d = distance(v, p.x, p.y, p.altitude, x, y, altitudeMeters);
+            if (best.size() < k) {
+                best.add(new double[] {d, found.size()});
+                found.add(v);
+            } else if (d < best.peek()[0]) {
+                best.poll();
+                best.add(new double[] {d, found.size()});
+                found.add(v);
+            }
+        }
+    }
+
+    private static List<Transportation> sorted(PriorityQueue<double[]> best, ArrayList<Transportation> found) {
+        ArrayList<double[]> ordered = new ArrayList<>(best);
+        ordered.sort((a, b) -> Double.compare(a[0], b[0]));
+        List<Transportation> result = new ArrayList<>(ordered.size());
+        for (double[] entry : ordered) {
+            result.add(found.get((int) entry[1]));
+        }
+        return result;
+    }
+
+    private Position relocate(Transportation vehicle, Position old, double x, double y, double altitude) {
+        long newCell = key(cellIndex(x), cellIndex(y));
+        Position position = new Position(x, y, altitude, newCell);
+        if (old != null && old.cell == newCell) {
+            // The cell cannot empty out under us: this vehicle stays in it and only its own
+            // compute() on positionOf (which we are inside) can take it out
+            cells.get(newCell).put(vehicle, position);
+            return position;
+        }
+        if (old != null) {
+            removeFromCell(old.cell, vehicle);
+        }
+        cells.compute(newCell, (c, members) -> {
+            if (members == null) {
+                members = new ConcurrentHashMap<>();
+            }
+            members.put(vehicle, position);
+            return members;
+        });
+        return position;
+    }
+
+    // Drops the cell once it is empty; compute() keeps this atomic with a concurrent add to the same cell
+    private void removeFromCell(long cell, Transportation vehicle) {
+        cells.computeIfPresent(cell, (c, members) -> {
+            members.remove(vehicle);
+            return members.isEmpty() ? null : members;
+        });
+    }
+
+    private int cellIndex(double km) {
+        return (int) Math.floor(km / cellSizeKm);
+    }
+
+    private static long key(int gx, int gy) {
+        return ((long) gx << 32) | (gy & 0xFFFFFFFFL);
+    }
+}
@@ -0,0 +1,85 @@
+import java.util.List;
+import java.util.Random;
+
+public class SpatialIndexBenchmark {
+    public static void main(String[] args) {
+        int vehicles = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int queries = 2000;
+        int scans = 20;
+        int minCapacity = 100;
+
+        List<Transportation> fleet = FleetSimulationTester.createFleet(vehicles, 42);
+        long start = System.nanoTime();
+        SpatialIndex index = new SpatialIndex(5.0);
+        fleet.parallelStream().forEach(index::add);
+        System.out.printf("Indexed %d vehicles in %.1f ms%n", vehicles, (System.nanoTime() - start) / 1e6);
+
+        Random random = new Random(7);
+        double[][] points = new double[queries][];
+        for (int i = 0; i < queries; i++) {
+            points[i] = new double[] {random.nextDouble() * 1000, random.nextDouble() * 1000};
+        }
+
+        // Grid search
+        start = System.nanoTime();
+        Transportation[] gridAnswers = new Transportation[queries];
+        for (int i = 0; i < queries; i++) {
+            gridAnswers[i] = index.nearestAvailable(points[i][0], points[i][1], 0, minCapacity, v -> true);
+        }
+        double gridMicros = (System.nanoTime() - start) / 1e3 / queries;
+
+        // Linear scan over every vehicle (fewer queries, it is slow)
+        start = System.nanoTime();
+        for (int i = 0; i < scans; i++) {
+            Transportation answer = linearNearest(fleet, points[i][0], points[i][1], minCapacity);
+            if (SpatialIndex.distance(answer, points[i][0], points[i][1], 0)
+                    != SpatialIndex.distance(gridAnswers[i], points[i][0], points[i][1], 0)) {
+                throw new IllegalStateException("Grid and linear scan disagree at query " + i);
+            }
+        }
+        double scanMicros = (System.nanoTime() - start) / 1e3 / scans;
+
+        System.out.println("--- Nearest vehicle with capacity >= " + minCapacity + " ---");
+        System.out.printf("Spatial grid : %10.1f us/query%n", gridMicros);
+        System.out.printf("Linear scan  : %10.1f us/query%n", scanMicros);
+
+        // Concurrent position updates while the grid is queried
+        start = System.nanoTime();
+        fleet.parallelStream().forEach(v -> index.move(v, v.getX() + 1.5, v.getY() - 0.5));
+        System.out.printf("Moved %d vehicles in %.1f ms%n", vehicles, (System.nanoTime() - start) / 1e6);
+
+        // A vehicle that wandered far away and came back must not widen later searches,
+        // and a search nothing can satisfy must stay bounded by the occupied cells
+        Transportation wanderer = fleet.get(0);
+        double homeX = wanderer.getX();
+        double homeY = wanderer.getY();
+        index.move(wanderer, 1_000_000, 1_000_000);
+        index.move(wanderer, homeX, homeY);
+        start = System.nanoTime();
+        int none = index.nearest(500, 500, 0, 1, Integer.MAX_VALUE, v -> true).size();
+        System.out.printf("Unsatisfiable query: %d found in %.1f ms over %d occupied cells%n",
+                none, (System.nanoTime() - start) / 1e6, index.occupiedCells());
+
+        List<Transportation> nearby = index.nearest(500, 500, 3000, 5, 0, v -> true);
+        System.out.println("\n5 nearest to (500, 500) at 3000 m:");
+        for (Transportation v : nearby) {
+            System.out.printf("%-16s %.2f km%n", v.getName(), SpatialIndex.distance(v, 500, 500, 3000));
+        }
+    }
+
+    private static Transportation linearNearest(List<Transportation> fleet, double x, double y, int minCapacity) {
+        Transportation best = null;
+        double bestDistance = Double.MAX_VALUE;
+        for (Transportation v : fleet) {
+            if (v.getCapacity() < minCapacity) {
+                continue;
+            }
+            double d = SpatialIndex.distance(v, x, y, 0);
+            if (d < bestDistance) {
+                bestDistance = d;
+                best = v;
+            }
+        }
+        return best;
+    }
+}
@@ -1,7 +1,17 @@
 public class Transportation {
+    public static final double DEFAULT_ACCELERATION = 10000; // km/h per hour
+
     protected String name;
     protected int capacity;
     protected double speed; // Speed in km/h
+    protected int cargoCapacityKg; // freight the vehicle can take, separate from the people it seats; 0 = none
+
+    // Simulation state (used by FleetSimulator)
+    protected double x;            // km east of the origin
+    protected double y;            // km north of the origin
+    protected double altitude;     // meters
+    protected double heading;      // radians, 0 = east
+    protected double currentSpeed; // km/h, approaches speed
 
     public Transportation(String name, int capacity, double speed) {
         this.name = name;
@@ -9,6 +19,73 @@ public class Transportation {
         this.speed = speed;
     }
 
+    public String getName() {
+        return name;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public double getSpeed() {
+        return speed;
+    }
+
+    public int getCargoCapacityKg() {
+        return cargoCapacityKg;
+    }
+
+    public double getX() {
+        return x;
+    }
+
+    public double getY() {
+        return y;
+    }
+
+    public double getAltitude() {
+        return altitude;
+    }
+
+    public double getHeading() {
+        return heading;
+    }
+
+    public double getCurrentSpeed() {
+        return currentSpeed;
+    }
+
+    public void setPosition(double x, double y) {
+        this.x = x;
+        this.y = y;
+    }
+
+    public void setHeading(double heading) {
+        this.heading = heading;
+    }
+
+    // How fast this vehicle can change speed, in km/h per hour
+    protected double acceleration() {
+        return DEFAULT_ACCELERATION;
+    }
+
+    // Moves the vehicle forward by one simulation step
+    public void advance(double hours) {
+        currentSpeed = approachSpeed(currentSpeed, speed, acceleration(), hours);
+        double distance = currentSpeed * hours;
+        x += Math.cos(heading) * distance;
+        y += Math.sin(heading) * distance;
+    }
+
+    // Speed after one step of speeding up or slowing down towards the cruising speed (also used by FleetStore)
+    static double approachSpeed(double currentSpeed, double speed, double acceleration, double hours) {
+        double change = acceleration * hours;
+        if (currentSpeed < speed) {
+            return Math.min(speed, currentSpeed + change);
+        }
+        return Math.max(speed, currentSpeed - change);
+    }
+
     public void move() {
         System.out.println(name + " is moving at " + speed + " km/h.");
     }
@@ -0,0 +1,4 @@
+// Computes the travel time between two grid cells when the EtaService cache misses
+public interface TravelTimeLoader {
+    double travelHours(RouteKey route);
+}
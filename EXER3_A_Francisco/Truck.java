@@ -2,6 +2,18 @@ public class Truck extends LandTransport {
     public Truck(String name, int capacity, double speed, int numWheels) {
         super(name, capacity, speed, numWheels);
     }
+    // capacity is the people in the cab; cargoCapacityKg is what the bed/trailer can carry
+    public Truck(String name, int capacity, double speed, int numWheels, int cargoCapacityKg) {
+        this(name, capacity, speed, numWheels);
+        this.cargoCapacityKg = cargoCapacityKg;
+    }
     public void loadCargo() { System.out.println(name + " is loading cargo."); }
+    // Loads the shipment onto this truck through the planner, so its free capacity stays in step;
+    // false if the remaining cargo capacity is too small
+    public boolean loadCargo(Shipment shipment, CargoPlanner planner) {
+        boolean loaded = planner.placeOn(this, shipment);
+        System.out.println(name + (loaded ? " loaded " : " has no room for ") + shipment.getWeightKg() + " kg of cargo.");
+        return loaded;
+    }
 }
     
\ No newline at end of file
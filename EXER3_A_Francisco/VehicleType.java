@@ -0,0 +1,35 @@
+public enum VehicleType {
+    TRANSPORTATION, LAND, AIR, WATER,
+    HELICOPTER, AIRPLANE, SPACE_SHUTTLE,
+    TRUCK, KARITON, MOTORCYCLE, TRICYCLE, SUV,
+    SHIP, SUBMARINE;
+
+    public static VehicleType of(Transportation vehicle) {
+        if (vehicle instanceof Helicopter) return HELICOPTER;
+        if (vehicle instanceof Airplane) return AIRPLANE;
+        if (vehicle instanceof SpaceShuttle) return SPACE_SHUTTLE;
+        if (vehicle instanceof AirTransport) return AIR;
+        if (vehicle instanceof Truck) return TRUCK;
+        if (vehicle instanceof Kariton) return KARITON;
+        if (vehicle instanceof Motorcycle) return MOTORCYCLE;
+        if (vehicle instanceof Tricycle) return TRICYCLE;
+        if (vehicle instanceof SUV) return SUV;
+        if (vehicle instanceof LandTransport) return LAND;
+        if (vehicle instanceof Ship) return SHIP;
+        if (vehicle instanceof Submarine) return SUBMARINE;
+        if (vehicle instanceof WaterTransport) return WATER;
+        return TRANSPORTATION;
+    }
+
+    public boolean isAir() {
+        return this == AIR || this == HELICOPTER || this == AIRPLANE || this == SPACE_SHUTTLE;
+    }
+
+    public boolean isWater() {
+        return this == WATER || this == SHIP || this == SUBMARINE;
+    }
+
+    public boolean isLand() {
+        return this == LAND || this == TRUCK || this == KARITON || this == MOTORCYCLE || this == TRICYCLE || this == SUV;
+    }
+}
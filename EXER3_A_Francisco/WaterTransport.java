@@ -1,4 +1,6 @@
 public class WaterTransport extends Transportation {
+    public static final double THRUST_PER_TON = 500000; // km/h per hour for a 1-ton vessel
+
     private double displacement; // in tons
 
     public WaterTransport(String name, int capacity, double speed, double displacement) {
@@ -6,6 +8,21 @@ public class WaterTransport extends Transportation {
         this.displacement = displacement;
     }
 
+    public double getDisplacement() {
+        return displacement;
+    }
+
+    // Heavier vessels take longer to reach their speed
+    @Override
+    protected double acceleration() {
+        return accelerationFor(displacement);
+    }
+
+    // Also used by FleetStore
+    static double accelerationFor(double displacement) {
+        return THRUST_PER_TON / Math.max(1, displacement);
+    }
+
     public void sail() {
         System.out.println(name + " is sailing on water.");
     }
@@ -1,8 +1,8 @@
 public class BiodegradableWaste extends Waste {
-    protected boolean isCompostable;
+    protected final boolean isCompostable;
 
     public BiodegradableWaste(String name, double weight, boolean isCompostable) {
-        super(name, weight);
+        super(name, weight, isCompostable ? FLAG_COMPOSTABLE : 0);
         this.isCompostable = isCompostable;
     }
 
@@ -0,0 +1,160 @@
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.Random;
+
+public class DisposalBenchmark {
+    public static void main(String[] args) {
+        int batchSize = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int rounds = 10;
+        DisposalRouter router = new DisposalRouter();
+        Waste[] batch = mixedBatch(batchSize, 42);
+
+        checkRoutesMatchDispose(router, batch);
+
+        System.out.println("==========================================");
+        System.out.println("  Disposal Dispatch Benchmark (" + batchSize + " items)");
+        System.out.println("==========================================");
+        System.out.println("Printing the instruction (output discarded):");
+
+        PrintStream console = System.out;
+        PrintStream discard = new PrintStream(OutputStream.nullOutputStream());
+
+        long best = Long.MAX_VALUE;
+        for (int r = 0; r < rounds; r++) {
+            System.setOut(discard);
+            long start = System.nanoTime();
+            for (Waste waste : batch) {
+                waste.dispose();
+            }
+            best = Math.min(best, System.nanoTime() - start);
+            System.setOut(console);
+        }
+        report("polymorphic dispose()", batchSize, best);
+
+        best = Long.MAX_VALUE;
+        for (int r = 0; r < rounds; r++) {
+            System.setOut(discard);
+            long start = System.nanoTime();
+            for (Waste waste : batch) {
+                router.dispose(waste);
+            }
+            best = Math.min(best, System.nanoTime() - start);
+            System.setOut(console);
+        }
+        report("router.dispose()", batchSize, best);
+
+        System.out.println("Choosing the bin only:");
+
+        // Classification only, no printing: the same decision made with an instanceof chain
+        DisposalBin[] bins = new DisposalBin[batchSize];
+        best = Long.MAX_VALUE;
+        for (int r = 0; r < rounds; r++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < batch.length; i++) {
+                bins[i] = classify(batch[i]);
+            }
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        report("instanceof chain", batchSize, best);
+
+        DisposalBin[] routed = new DisposalBin[batchSize];
+        best = Long.MAX_VALUE;
+        for (int r = 0; r < rounds; r++) {
+            long start = System.nanoTime();
+            router.route(batch, routed);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        report("router.route()", batchSize, best);
+        if (!Arrays.equals(bins, routed)) {
+            throw new IllegalStateException("Routing table disagrees with the instanceof chain");
+        }
+
+        int[] counts = router.countByBin(batch);
+        System.out.println("------------------------------------------");
+        for (DisposalBin bin : DisposalBin.values()) {
+            System.out.printf("%-20s %d%n", bin, counts[bin.ordinal()]);
+        }
+    }
+
+    // Realistic mix: mostly food/garden/plastic, fewer hazardous items, every class present
+    static Waste[] mixedBatch(int size, long seed) {
+        Random random = new Random(seed);
+        Waste[] batch = new Waste[size];
+        for (int i = 0; i < size; i++) {
+            double weight = 0.05 + random.nextDouble() * 2;
+            int roll = random.nextInt(100);
+            if (roll < 25) {
+                batch[i] = new FoodWaste("Banana Peel", weight);
+            } else if (roll < 40) {
+                batch[i] = new GardenWaste("Dry Leaves", weight);
+            } else if (roll < 58) {
+                batch[i] = new PlasticWaste("Plastic Bottle", weight);
+            } else if (roll < 70) {
+                batch[i] = new PaperWaste("Newspaper", weight);
+            } else if (roll < 82) {
+                batch[i] = new NonHazardousWaste("Chip Wrapper", weight);
+            } else if (roll < 86) {
+                batch[i] = new HazardousWaste("Used Battery", weight);
+            } else if (roll < 90) {
+                batch[i] = new BiodegradableWaste("Wood Shavings", weight, random.nextBoolean());
+            } else if (roll < 94) {
+                batch[i] = new RecyclableWaste("Soda Can", weight, "Aluminum");
+            } else if (roll < 98) {
+                batch[i] = new ResidualWaste("Styrofoam", weight, random.nextBoolean());
+            } else {
+                batch[i] = new Waste("Unknown Waste", weight);
+            }
+        }
+        return batch;
+    }
+
+    // Hand-written equivalent of the dispose() overrides, most specific class first
+    private static DisposalBin classify(Waste waste) {
+        if (waste instanceof FoodWaste) {
+            return DisposalBin.FOOD_COMPOST;
+        } else if (waste instanceof GardenWaste) {
+            return DisposalBin.GREEN_WASTE;
+        } else if (waste instanceof BiodegradableWaste) {
+            return (waste.getDisposalFlags() & Waste.FLAG_COMPOSTABLE) != 0 ? DisposalBin.COMPOST : DisposalBin.BIODEGRADABLE;
+        } else if (waste instanceof PaperWaste) {
+            return DisposalBin.BLUE_PAPER;
+        } else if (waste instanceof PlasticWaste) {
+            return DisposalBin.PLASTIC_STATION;
+        } else if (waste instanceof RecyclableWaste) {
+            return DisposalBin.RECYCLING;
+        } else if (waste instanceof HazardousWaste) {
+            return DisposalBin.HAZARDOUS_FACILITY;
+        } else if (waste instanceof NonHazardousWaste) {
+            return DisposalBin.GENERAL_RESIDUAL;
+        } else if (waste instanceof ResidualWaste) {
+            return (waste.getDisposalFlags() & Waste.FLAG_HAZARDOUS) != 0 ? DisposalBin.HAZARDOUS_POINT : DisposalBin.RESIDUAL;
+        }
+        return DisposalBin.GENERAL;
+    }
+
+    // The table must print exactly what dispose() prints for every item
+    private static void checkRoutesMatchDispose(DisposalRouter router, Waste[] batch) {
+        PrintStream console = System.out;
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        ByteArrayOutputStream actual = new ByteArrayOutputStream();
+        try {
+            for (int i = 0; i < Math.min(batch.length, 10_000); i++) {
+                System.setOut(new PrintStream(expected));
+                batch[i].dispose();
+                System.setOut(new PrintStream(actual));
+                router.dispose(batch[i]);
+            }
+        } finally {
+            System.setOut(console);
+        }
+        if (!expected.toString().equals(actual.toString())) {
+            throw new IllegalStateException("Routing table disagrees with dispose()");
+        }
+    }
+
+    private static void report(String label, int items, long nanos) {
+        System.out.printf("%-24s %8.1f ms  %8.2f ns/item%n", label, nanos / 1e6, (double) nanos / items);
+    }
+}
@@ -0,0 +1,28 @@
+public enum DisposalBin {
+    GENERAL("Dispose in general waste bin."),
+    COMPOST("Place in the compost bin."),
+    BIODEGRADABLE("Place in the biodegradable waste bin."),
+    FOOD_COMPOST("Compost food waste properly."),
+    GREEN_WASTE("Add garden waste to compost or green waste bin."),
+    RECYCLING("Place in recycling bin for %s."),
+    BLUE_PAPER("Recycle in blue paper bin."),
+    PLASTIC_STATION("Recycle at plastic recycling station."),
+    HAZARDOUS_POINT("Dispose at hazardous waste collection point."),
+    RESIDUAL("Place in residual waste bin."),
+    HAZARDOUS_FACILITY("Hazardous! Take to a certified hazardous waste facility."),
+    GENERAL_RESIDUAL("Place in general residual waste bin.");
+
+    private final String instruction;
+
+    DisposalBin(String instruction) {
+        this.instruction = instruction;
+    }
+
+    // Same text that the matching dispose() prints
+    public String getInstruction(Waste waste) {
+        if (this == RECYCLING) {
+            return String.format(instruction, ((RecyclableWaste) waste).getMaterialType());
+        }
+        return instruction;
+    }
+}
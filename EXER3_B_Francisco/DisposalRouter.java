@@ -0,0 +1,87 @@
+import java.util.Arrays;
+import java.util.HashMap;
+
+public class DisposalRouter {
+    private static final int FLAG_COMBINATIONS = 1 << Waste.FLAG_BITS; // compostable x hazardous
+
+    // Routing rows registered once, one bin per flag combination
+    private final HashMap<Class<?>, DisposalBin[]> registered = new HashMap<>();
+
+    // Flat table indexed by Waste.getRouteKey(); filled in the first time a key is seen
+    private volatile DisposalBin[] routes = new DisposalBin[0];
+
+    public DisposalRouter() {
+        register(Waste.class, DisposalBin.GENERAL);
+        register(BiodegradableWaste.class, DisposalBin.BIODEGRADABLE, DisposalBin.COMPOST);
+        register(FoodWaste.class, DisposalBin.FOOD_COMPOST);
+        register(GardenWaste.class, DisposalBin.GREEN_WASTE);
+        register(RecyclableWaste.class, DisposalBin.RECYCLING);
+        register(PaperWaste.class, DisposalBin.BLUE_PAPER);
+        register(PlasticWaste.class, DisposalBin.PLASTIC_STATION);
+        registerHazardous(ResidualWaste.class, DisposalBin.RESIDUAL, DisposalBin.HAZARDOUS_POINT);
+        register(HazardousWaste.class, DisposalBin.HAZARDOUS_FACILITY);
+        register(NonHazardousWaste.class, DisposalBin.GENERAL_RESIDUAL);
+    }
+
+    // Same bin whatever the flags
+    private void register(Class<? extends Waste> type, DisposalBin bin) {
+        registerFlags(type, bin, bin, bin, bin);
+    }
+
+    // Bin depends on the compostable flag
+    private void register(Class<? extends Waste> type, DisposalBin notCompostable, DisposalBin compostable) {
+        registerFlags(type, notCompostable, compostable, notCompostable, compostable);
+    }
+
+    // Bin depends on the hazardous flag
+    private void registerHazardous(Class<? extends Waste> type, DisposalBin safe, DisposalBin hazardous) {
+        registerFlags(type, safe, safe, hazardous, hazardous);
+    }
+
+    private void registerFlags(Class<? extends Waste> type, DisposalBin... binsByFlags) {
+        if (binsByFlags.length != FLAG_COMBINATIONS) {
+            throw new IllegalArgumentException("Expected " + FLAG_COMBINATIONS + " bins for " + type.getSimpleName());
+        }
+        registered.put(type, binsByFlags);
+    }
+
+    // One array lookup instead of a virtual dispose() call
+    public DisposalBin route(Waste waste) {
+        int key = waste.getRouteKey();
+        DisposalBin[] table = routes;
+        DisposalBin bin = key < table.length ? table[key] : null;
+        return bin != null ? bin : resolve(waste.getClass(), key);
+    }
+
+    // Slow path, once per route key: subclasses without their own row inherit the parent's
+    private synchronized DisposalBin resolve(Class<?> type, int key) {
+        for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+            DisposalBin[] row = registered.get(c);
+            if (row != null) {
+                DisposalBin[] table = routes.length > key ? routes.clone() : Arrays.copyOf(routes, key + FLAG_COMBINATIONS);
+                table[key] = row[key & (FLAG_COMBINATIONS - 1)];
+                routes = table;
+                return table[key];
+            }
+        }
+        throw new IllegalArgumentException("No disposal route for " + type.getName());
+    }
+
+    public void route(Waste[] batch, DisposalBin[] bins) {
+        for (int i = 0; i < batch.length; i++) {
+            bins[i] = route(batch[i]);
+        }
+    }
+
+    public int[] countByBin(Waste[] batch) {
+        int[] counts = new int[DisposalBin.values().length];
+        for (Waste waste : batch) {
+            counts[route(waste).ordinal()]++;
+        }
+        return counts;
+    }
+
+    public void dispose(Waste waste) {
+        System.out.println(route(waste).getInstruction(waste));
+    }
+}
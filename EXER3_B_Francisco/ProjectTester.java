@@ -54,6 +54,18 @@ public class ProjectTester {
         System.out.println("------------------------------------------\n");
 
         System.out.println("l waste items processed successfully!");
+        System.out.println("------------------------------------------\n");
+
+        System.out.println("RUNNING TOTALS");
+        WasteAggregator aggregator = new WasteAggregator();
+        Waste[] collected = {generalWaste, plastic, paper, food, garden, battery, wrapper};
+        for (Waste waste : collected) {
+            aggregator.accept(waste);
+        }
+        aggregator.accept(new HazardousWaste("Broken Thermometer", 0.15));
+        aggregator.accept(new ResidualWaste("Paint Thinner Can", 0.4, true));
+        System.out.println("Hazardous so far: " + aggregator.getHazardousStats().getTotalWeight() + " kg");
+        aggregator.printReport();
     }
 }
 
@@ -6,6 +6,10 @@ public class RecyclableWaste extends Waste {
         this.materialType = materialType;
     }
 
+    public String getMaterialType() {
+        return materialType;
+    }
+
     @Override
     public void describe() {
         super.describe();
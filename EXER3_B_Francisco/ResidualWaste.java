@@ -1,8 +1,8 @@
 public class ResidualWaste extends Waste {
-    protected boolean isHazardous;
+    protected final boolean isHazardous;
 
     public ResidualWaste(String name, double weight, boolean isHazardous) {
-        super(name, weight);
+        super(name, weight, isHazardous ? FLAG_HAZARDOUS : 0);
         this.isHazardous = isHazardous;
     }
 
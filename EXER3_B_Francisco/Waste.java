@@ -1,10 +1,52 @@
+import java.util.concurrent.atomic.AtomicInteger;
+
 public class Waste {
+    // Flag bits used by DisposalRouter to pick a bin without calling dispose()
+    public static final int FLAG_COMPOSTABLE = 1;
+    public static final int FLAG_HAZARDOUS = 2;
+    public static final int FLAG_BITS = 2;
+
+    // Small sequential id per concrete class, handed out the first time the class is constructed
+    private static final AtomicInteger NEXT_KIND = new AtomicInteger();
+    private static final ClassValue<Integer> KIND = new ClassValue<Integer>() {
+        @Override
+        protected Integer computeValue(Class<?> type) {
+            return NEXT_KIND.getAndIncrement();
+        }
+    };
+
     protected String name;
     protected double weight;
+    private final int disposalFlags;
+    private final int routeKey;
 
     public Waste(String name, double weight) {
+        this(name, weight, 0);
+    }
+
+    // Flags are fixed at construction, from the same arguments that decide dispose()
+    protected Waste(String name, double weight, int disposalFlags) {
         this.name = name;
         this.weight = weight;
+        this.disposalFlags = disposalFlags;
+        this.routeKey = KIND.get(getClass()) << FLAG_BITS | disposalFlags;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public double getWeight() {
+        return weight;
+    }
+
+    public final int getDisposalFlags() {
+        return disposalFlags;
+    }
+
+    // Class id and flags in one int: DisposalRouter's index into its flat bin table
+    public final int getRouteKey() {
+        return routeKey;
     }
 
     public void describe() {
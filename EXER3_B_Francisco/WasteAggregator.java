@@ -0,0 +1,87 @@
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class WasteAggregator {
+    private final ConcurrentHashMap<Class<? extends Waste>, WasteStats> byClass = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, WasteStats> byMaterial = new ConcurrentHashMap<>();
+    private final WasteStats overall = new WasteStats();
+    // Flag dimension: a ResidualWaste built as hazardous counts here even though it is not a HazardousWaste
+    private final WasteStats hazardous = new WasteStats();
+    private final WasteStats compostable = new WasteStats();
+
+    // Updates the running totals for one item; nothing is rescanned
+    public void accept(Waste waste) {
+        byClass.computeIfAbsent(waste.getClass(), k -> new WasteStats()).add(waste.getWeight());
+        if (waste instanceof RecyclableWaste) {
+            String material = ((RecyclableWaste) waste).getMaterialType();
+            byMaterial.computeIfAbsent(material, k -> new WasteStats()).add(waste.getWeight());
+        }
+        int flags = waste.getDisposalFlags();
+        if ((flags & Waste.FLAG_HAZARDOUS) != 0) {
+            hazardous.add(waste.getWeight());
+        }
+        if ((flags & Waste.FLAG_COMPOSTABLE) != 0) {
+            compostable.add(waste.getWeight());
+        }
+        overall.add(waste.getWeight());
+    }
+
+    public void acceptAll(Iterable<? extends Waste> wastes) {
+        for (Waste waste : wastes) {
+            accept(waste);
+        }
+    }
+
+    // Queries return the live counters, so ingestion never has to pause. A type or material not
+    // seen yet gets a detached empty WasteStats: reads never add entries to the maps
+    public WasteStats getStats(Class<? extends Waste> type) {
+        WasteStats stats = byClass.get(type);
+        return stats != null ? stats : new WasteStats();
+    }
+
+    public WasteStats getMaterialStats(String materialType) {
+        WasteStats stats = byMaterial.get(materialType);
+        return stats != null ? stats : new WasteStats();
+    }
+
+    // Every hazardous item, whatever its class
+    public WasteStats getHazardousStats() {
+        return hazardous;
+    }
+
+    public WasteStats getCompostableStats() {
+        return compostable;
+    }
+
+    public WasteStats getOverallStats() {
+        return overall;
+    }
+
+    // Keyed by the class itself (ordered by full name), so same-named classes in different packages stay apart
+    public Map<Class<? extends Waste>, WasteStats> getStatsByClass() {
+        TreeMap<Class<? extends Waste>, WasteStats> result = new TreeMap<>(Comparator.comparing(Class::getName));
+        result.putAll(byClass);
+        return Collections.unmodifiableMap(result);
+    }
+
+    public Map<String, WasteStats> getStatsByMaterial() {
+        return Collections.unmodifiableMap(new TreeMap<>(byMaterial));
+    }
+
+    public void printReport() {
+        System.out.println("Per Class:");
+        for (Map.Entry<Class<? extends Waste>, WasteStats> e : getStatsByClass().entrySet()) {
+            System.out.println("  " + e.getKey().getSimpleName() + ": " + e.getValue());
+        }
+        System.out.println("Per Material Type:");
+        for (Map.Entry<String, WasteStats> e : getStatsByMaterial().entrySet()) {
+            System.out.println("  " + e.getKey() + ": " + e.getValue());
+        }
+        System.out.println("Hazardous: " + hazardous);
+        System.out.println("Compostable: " + compostable);
+        System.out.println("Overall: " + overall);
+    }
+}
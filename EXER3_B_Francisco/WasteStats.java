@@ -0,0 +1,53 @@
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+public class WasteStats {
+    private final LongAdder count = new LongAdder();
+    private final DoubleAdder totalWeight = new DoubleAdder();
+    private final AtomicLong minWeightBits = new AtomicLong(Double.doubleToRawLongBits(Double.POSITIVE_INFINITY));
+    private final AtomicLong maxWeightBits = new AtomicLong(Double.doubleToRawLongBits(Double.NEGATIVE_INFINITY));
+
+    // O(1) update, safe to call from many threads at once
+    public void add(double weight) {
+        count.increment();
+        totalWeight.add(weight);
+        long bits = Double.doubleToRawLongBits(weight);
+        long current;
+        while (weight < Double.longBitsToDouble(current = minWeightBits.get())
+                && !minWeightBits.compareAndSet(current, bits)) {
+            // retry until this weight is stored or a smaller one wins
+        }
+        while (weight > Double.longBitsToDouble(current = maxWeightBits.get())
+                && !maxWeightBits.compareAndSet(current, bits)) {
+            // retry until this weight is stored or a larger one wins
+        }
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public double getTotalWeight() {
+        return totalWeight.sum();
+    }
+
+    public double getMinWeight() {
+        return getCount() == 0 ? 0 : Double.longBitsToDouble(minWeightBits.get());
+    }
+
+    public double getMaxWeight() {
+        return getCount() == 0 ? 0 : Double.longBitsToDouble(maxWeightBits.get());
+    }
+
+    public double getAverageWeight() {
+        long n = getCount();
+        return n == 0 ? 0 : getTotalWeight() / n;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("count=%d, total=%.2f kg, min=%.2f kg, max=%.2f kg, avg=%.2f kg",
+                getCount(), getTotalWeight(), getMinWeight(), getMaxWeight(), getAverageWeight());
+    }
+}
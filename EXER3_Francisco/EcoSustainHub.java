@@ -45,6 +45,8 @@ public class EcoSustainHub {
         private int productId;
         private String productName;
         private boolean ecoFriendly;
+        private volatile ProductIndex index; // index that owns name and eco flag updates while attached
+        private int indexSlot = -1;
 
         public Product(int productId, String productName, boolean ecoFriendly) {
             this.productId = productId;
@@ -63,6 +65,14 @@ public class EcoSustainHub {
             return productName;
         }
         public void setProductName(String productName) {
+            ProductIndex current = index;
+            if (current != null) {
+                current.renameProduct(this, productName);
+            } else {
+                this.productName = productName;
+            }
+        }
+        void assignProductName(String productName) {
             this.productName = productName;
         }
 
@@ -70,9 +80,28 @@ public class EcoSustainHub {
             return ecoFriendly;
         }
         public void setEcoFriendly(boolean ecoFriendly) {
+            ProductIndex current = index;
+            if (current != null) {
+                current.changeEcoFriendly(this, ecoFriendly);
+            } else {
+                this.ecoFriendly = ecoFriendly;
+            }
+        }
+        void assignEcoFriendly(boolean ecoFriendly) {
             this.ecoFriendly = ecoFriendly;
         }
 
+        ProductIndex getIndex() {
+            return index;
+        }
+        int getIndexSlot() {
+            return indexSlot;
+        }
+        void attachIndex(ProductIndex index, int indexSlot) {
+            this.index = index;
+            this.indexSlot = indexSlot;
+        }
+
         public void showProduct() {
             System.out.println("Product ID   : " + productId);
             System.out.println("Product Name : " + productName);
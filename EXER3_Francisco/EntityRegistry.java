@@ -0,0 +1,73 @@
+//Lookup of producers, products and consumers by their int ids
+public class EntityRegistry {
+    private final IntObjectMap<EcoSustainHub.Producer> producers;
+    private final IntObjectMap<EcoSustainHub.Product> products;
+    private final IntObjectMap<EcoSustainHub.Consumer> consumers;
+
+    public EntityRegistry() {
+        this(16, 16, 16);
+    }
+
+    public EntityRegistry(int expectedProducers, int expectedProducts, int expectedConsumers) {
+        producers = new IntObjectMap<>(expectedProducers);
+        products = new IntObjectMap<>(expectedProducts);
+        consumers = new IntObjectMap<>(expectedConsumers);
+    }
+
+    public void register(EcoSustainHub.Producer producer) {
+        producers.put(producer.getProducerId(), producer);
+    }
+    public void register(EcoSustainHub.Product product) {
+        products.put(product.getProductId(), product);
+    }
+    public void register(EcoSustainHub.Consumer consumer) {
+        consumers.put(consumer.getConsumerId(), consumer);
+    }
+
+    public EcoSustainHub.Producer getProducer(int producerId) {
+        return producers.get(producerId);
+    }
+    public EcoSustainHub.Product getProduct(int productId) {
+        return products.get(productId);
+    }
+    public EcoSustainHub.Consumer getConsumer(int consumerId) {
+        return consumers.get(consumerId);
+    }
+
+    public EcoSustainHub.Producer removeProducer(int producerId) {
+        return producers.remove(producerId);
+    }
+    public EcoSustainHub.Product removeProduct(int productId) {
+        return products.remove(productId);
+    }
+    public EcoSustainHub.Consumer removeConsumer(int consumerId) {
+        return consumers.remove(consumerId);
+    }
+
+    //Ids are stored separately from the objects, so changing an id means re-registering
+    public void changeProducerId(EcoSustainHub.Producer producer, int newId) {
+        producers.remove(producer.getProducerId());
+        producer.setProducerId(newId);
+        producers.put(newId, producer);
+    }
+    public void changeProductId(EcoSustainHub.Product product, int newId) {
+        products.remove(product.getProductId());
+        product.setProductId(newId);
+        products.put(newId, product);
+    }
+    public void changeConsumerId(EcoSustainHub.Consumer consumer, int newId) {
+        consumers.remove(consumer.getConsumerId());
+        consumer.setConsumerId(newId);
+        consumers.put(newId, consumer);
+    }
+
+    public int getProducerCount() {
+        return producers.size();
+    }
+    public int getProductCount() {
+        return products.size();
+    }
+    public int getConsumerCount() {
+        return consumers.size();
+    }
+}
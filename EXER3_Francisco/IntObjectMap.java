@@ -0,0 +1,176 @@
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+//Open-addressing map from int keys to objects: no Integer boxing, no entry objects.
+//One writer at a time (put/remove are synchronized); get() never locks.
+public class IntObjectMap<V> {
+    private static final VarHandle KEYS = MethodHandles.arrayElementVarHandle(int[].class);
+    private static final VarHandle VALUES = MethodHandles.arrayElementVarHandle(Object[].class);
+    private static final int FREE = 0;          //marks an unused key slot (key 0 is kept separately)
+    private static final float MAX_LOAD = 0.6f;
+    private static final int MAX_CAPACITY = 1 << 30;  //largest power-of-two array length
+    //Live entries allowed at MAX_CAPACITY, low enough that a full table only ever rehashes in place
+    private static final int MAX_SIZE = (int) (MAX_CAPACITY * MAX_LOAD / 2);
+
+    //Keys and values are replaced together on resize, so readers always see a matching pair
+    private static final class Table {
+        final int[] keys;
+        final Object[] values;
+        final int mask;
+
+        Table(int capacity) {
+            keys = new int[capacity];
+            values = new Object[capacity];
+            mask = capacity - 1;
+        }
+    }
+
+    private volatile Table table;
+    private volatile Object zeroValue;
+    private int used;  //slots with a key, including removed ones
+    private int size;
+
+    public IntObjectMap() {
+        this(16);
+    }
+
+    public IntObjectMap(int expectedSize) {
+        table = new Table(capacityFor(expectedSize));
+    }
+
+    @SuppressWarnings("unchecked")
+    public V get(int key) {
+        if (key == FREE) {
+            return (V) zeroValue;
+        }
+        Table t = table;
+        for (int i = mix(key) & t.mask; ; i = (i + 1) & t.mask) {
+            int k = (int) KEYS.getAcquire(t.keys, i);
+            if (k == key) {
+                return (V) VALUES.getAcquire(t.values, i);
+            }
+            if (k == FREE) {
+                return null;
+            }
+        }
+    }
+
+    public boolean containsKey(int key) {
+        return get(key) != null;
+    }
+
+    @SuppressWarnings("unchecked")
+    public synchronized V put(int key, V value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Null values are not supported; use remove().");
+        }
+        if (key == FREE) {
+            Object old = zeroValue;
+            zeroValue = value;
+            if (old == null) {
+                size++;
+            }
+            return (V) old;
+        }
+        Table t = table;
+        int i = mix(key) & t.mask;
+        while (true) {
+            int k = t.keys[i];
+            if (k == key) {
+                Object old = t.values[i];
+                VALUES.setRelease(t.values, i, value);
+                if (old == null) {
+                    size++;
+                }
+                return (V) old;
+            }
+            if (k == FREE) {
+                break;
+            }
+            i = (i + 1) & t.mask;
+        }
+        if (size >= MAX_SIZE) {
+            throw new IllegalStateException("IntObjectMap cannot hold more than " + MAX_SIZE + " entries.");
+        }
+        //Publish the value before the key so a reader that finds the key also finds the value
+        VALUES.setRelease(t.values, i, value);
+        KEYS.setRelease(t.keys, i, key);
+        size++;
+        if (++used > t.keys.length * MAX_LOAD) {
+            //Grow only if live entries need it; otherwise just clear out removed keys
+            boolean crowded = size > t.keys.length * MAX_LOAD / 2;
+            rehash(crowded ? Math.min(t.keys.length * 2, MAX_CAPACITY) : t.keys.length);
+        }
+        return null;
+    }
+
+    //Leaves the key in place with a null value, so concurrent readers never skip past it
+    @SuppressWarnings("unchecked")
+    public synchronized V remove(int key) {
+        if (key == FREE) {
+            Object old = zeroValue;
+            zeroValue = null;
+            if (old != null) {
+                size--;
+            }
+            return (V) old;
+        }
+        Table t = table;
+        for (int i = mix(key) & t.mask; ; i = (i + 1) & t.mask) {
+            int k = t.keys[i];
+            if (k == key) {
+                Object old = t.values[i];
+                VALUES.setRelease(t.values, i, null);
+                if (old != null) {
+                    size--;
+                }
+                return (V) old;
+            }
+            if (k == FREE) {
+                return null;
+            }
+        }
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    //Approximate heap used by the arrays (16-byte array headers, 4-byte references)
+    public synchronized long arrayBytes() {
+        return 2 * (16 + 4L * table.keys.length);
+    }
+
+    private void rehash(int capacity) {
+        Table old = table;
+        Table fresh = new Table(capacity);
+        int live = 0;
+        for (int j = 0; j < old.keys.length; j++) {
+            Object value = old.values[j];
+            if (old.keys[j] != FREE && value != null) {
+                int i = mix(old.keys[j]) & fresh.mask;
+                while (fresh.keys[i] != FREE) {
+                    i = (i + 1) & fresh.mask;
+                }
+                fresh.keys[i] = old.keys[j];
+                fresh.values[i] = value;
+                live++;
+            }
+        }
+        used = live;
+        table = fresh; //volatile write publishes the finished table
+    }
+
+    private static int capacityFor(int expectedSize) {
+        long needed = (long) Math.ceil(Math.max(expectedSize, 8) / MAX_LOAD);
+        if (needed > MAX_CAPACITY) {
+            return MAX_CAPACITY;
+        }
+        return Integer.highestOneBit((int) needed - 1) << 1;
+    }
+
+    private static int mix(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,29 @@
+import java.util.ArrayList;
+import java.util.List;
+
+public class MarketplaceLoadTest {
+    public static void main(String[] args) throws InterruptedException {
+        long events = args.length > 0 ? Long.parseLong(args[0]) : 2_000_000;
+        int producerThreads = args.length > 1 ? Integer.parseInt(args[1]) : 2;
+        int consumerThreads = args.length > 2 ? Integer.parseInt(args[2]) : 2;
+        int queueCapacity = args.length > 3 ? Integer.parseInt(args[3]) : 1024;
+
+        List<EcoSustainHub.Producer> producers = new ArrayList<>();
+        producers.add(new EcoSustainHub.Producer(1, "Green Farms", "Organic Agriculture"));
+        producers.add(new EcoSustainHub.Producer(2, "Bamboo Works", "Sustainable Furniture"));
+        producers.add(new EcoSustainHub.Producer(3, "SolarPH", "Renewable Energy"));
+
+        List<EcoSustainHub.Consumer> consumers = new ArrayList<>();
+        consumers.add(new EcoSustainHub.Consumer(201, "Juan Tamad", "Eco-Friendly Products"));
+        consumers.add(new EcoSustainHub.Consumer(202, "Maria Clara", "Furniture"));
+        consumers.add(new EcoSustainHub.Consumer(203, "Jose Rizal", "Energy"));
+
+        System.out.println("Marketplace load test: " + events + " events, "
+                + producerThreads + " producer thread(s), " + consumerThreads + " consumer thread(s), queue " + queueCapacity);
+        System.out.println();
+
+        MarketplacePipeline pipeline = new MarketplacePipeline(producers, consumers, producerThreads, consumerThreads, queueCapacity);
+        PipelineMetrics metrics = pipeline.run(events);
+        metrics.showMetrics();
+    }
+}
@@ -0,0 +1,177 @@
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class MarketplacePipeline {
+
+    //Product event flowing from the producer stage to the consumer stage
+    static class ProductEvent {
+        private final EcoSustainHub.Producer producer;
+        private final EcoSustainHub.Product product;
+        private final long createdNanos;
+
+        ProductEvent(EcoSustainHub.Producer producer, EcoSustainHub.Product product, long createdNanos) {
+            this.producer = producer;
+            this.product = product;
+            this.createdNanos = createdNanos;
+        }
+
+        public EcoSustainHub.Producer getProducer() {
+            return producer;
+        }
+        public EcoSustainHub.Product getProduct() {
+            return product;
+        }
+        public long getCreatedNanos() {
+            return createdNanos;
+        }
+    }
+
+    // Marks the end of the stream for one consumer thread
+    private static final ProductEvent END = new ProductEvent(null, null, 0);
+    // How often a blocked put re-checks whether the other stage has failed
+    private static final long POLL_MILLIS = 50;
+
+    private final List<EcoSustainHub.Producer> producers;
+    private final List<EcoSustainHub.Consumer> consumers;
+    private final Preference[] preferences; // parsed once, same order as consumers
+    private final int producerThreads;
+    private final int consumerThreads;
+    private final int queueCapacity;
+
+    public MarketplacePipeline(List<EcoSustainHub.Producer> producers, List<EcoSustainHub.Consumer> consumers,
+                               int producerThreads, int consumerThreads, int queueCapacity) {
+        if (producers.isEmpty() || consumers.isEmpty()) {
+            throw new IllegalArgumentException("Need at least one producer and one consumer.");
+        }
+        if (producerThreads < 1 || consumerThreads < 1 || queueCapacity < 1) {
+            throw new IllegalArgumentException("Thread counts and queue capacity must be positive.");
+        }
+        this.producers = producers;
+        this.consumers = consumers;
+        this.preferences = new Preference[consumers.size()];
+        for (int i = 0; i < preferences.length; i++) {
+            preferences[i] = Preference.parse(consumers.get(i).getPreference());
+        }
+        this.producerThreads = producerThreads;
+        this.consumerThreads = consumerThreads;
+        this.queueCapacity = queueCapacity;
+    }
+
+    //Runs the simulation until totalEvents products have been emitted and consumed.
+    //If a stage thread fails, the other stage stops waiting on the queue and the failure is rethrown
+    public PipelineMetrics run(long totalEvents) throws InterruptedException {
+        BlockingQueue<ProductEvent> queue = new ArrayBlockingQueue<>(queueCapacity);
+        PipelineMetrics metrics = new PipelineMetrics();
+        AtomicLong nextProductId = new AtomicLong();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        Thread[] producerStage = new Thread[producerThreads];
+        for (int t = 0; t < producerThreads; t++) {
+            producerStage[t] = new Thread(() -> produce(queue, metrics, nextProductId, totalEvents, failure), "producer-" + t);
+        }
+        Thread[] consumerStage = new Thread[consumerThreads];
+        for (int t = 0; t < consumerThreads; t++) {
+            consumerStage[t] = new Thread(() -> consume(queue, metrics, failure), "consumer-" + t);
+        }
+
+        metrics.start();
+        for (Thread thread : consumerStage) {
+            thread.start();
+        }
+        for (Thread thread : producerStage) {
+            thread.start();
+        }
+        for (Thread thread : producerStage) {
+            thread.join();
+        }
+        for (int t = 0; t < consumerThreads; t++) {
+            if (!offer(queue, END, failure)) {
+                break;
+            }
+        }
+        for (Thread thread : consumerStage) {
+            thread.join();
+        }
+        metrics.stop();
+        if (failure.get() != null) {
+            throw new IllegalStateException("Marketplace pipeline stopped early.", failure.get());
+        }
+        return metrics;
+    }
+
+    private void produce(BlockingQueue<ProductEvent> queue, PipelineMetrics metrics, AtomicLong nextProductId, long totalEvents,
+                         AtomicReference<Throwable> failure) {
+        try {
+            long id;
+            while ((id = nextProductId.getAndIncrement()) < totalEvents) {
+                EcoSustainHub.Producer producer = producers.get((int) (id % producers.size()));
+                EcoSustainHub.Product product = new EcoSustainHub.Product((int) id,
+                        producer.getIndustry() + " Item " + (id % 1000), id % 3 != 0);
+                long created = System.nanoTime();
+                // Blocks while the queue is full, slowing producers down to the consumers' pace
+                if (!offer(queue, new ProductEvent(producer, product, created), failure)) {
+                    return;
+                }
+                metrics.recordProduced(System.nanoTime() - created);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException | Error e) {
+            failure.compareAndSet(null, e);
+        }
+    }
+
+    private void consume(BlockingQueue<ProductEvent> queue, PipelineMetrics metrics, AtomicReference<Throwable> failure) {
+        try {
+            while (failure.get() == null) {
+                ProductEvent event = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (event == END) {
+                    return;
+                }
+                if (event != null) {
+                    int matches = countMatches(event);
+                    metrics.recordConsumed(System.nanoTime() - event.getCreatedNanos(), matches);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException | Error e) {
+            failure.compareAndSet(null, e);
+        }
+    }
+
+    // Waits for queue space, giving up once any stage thread has failed
+    private static boolean offer(BlockingQueue<ProductEvent> queue, ProductEvent event, AtomicReference<Throwable> failure)
+            throws InterruptedException {
+        while (!queue.offer(event, POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+            if (failure.get() != null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    //Every consumer sees every product; the product is tokenized once for all of them
+    private int countMatches(ProductEvent event) {
+        EcoSustainHub.Product product = event.getProduct();
+        Set<String> words = Preference.tokenize(product.getProductName());
+        words.addAll(Preference.tokenize(event.getProducer().getIndustry()));
+        int matches = 0;
+        for (Preference preference : preferences) {
+            if (preference.matches(product.isEcoFriendly(), words)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    //Same rule as ProductIndex.findMatches
+    public static boolean matches(EcoSustainHub.Consumer consumer, EcoSustainHub.Producer producer, EcoSustainHub.Product product) {
+        return Preference.parse(consumer.getPreference()).matches(product, producer == null ? null : producer.getIndustry());
+    }
+}
@@ -0,0 +1,91 @@
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+public class PipelineMetrics {
+    // Latency buckets: bucket i holds events that took [2^i, 2^(i+1)) microseconds
+    private static final int BUCKETS = 40;
+
+    private final LongAdder produced = new LongAdder();
+    private final LongAdder consumed = new LongAdder();
+    private final LongAdder matched = new LongAdder();
+    private final LongAdder producerWaitNanos = new LongAdder();
+    private final AtomicLongArray latencyBuckets = new AtomicLongArray(BUCKETS);
+    private volatile long startNanos;
+    private volatile long endNanos;
+
+    void start() {
+        startNanos = System.nanoTime();
+    }
+
+    void stop() {
+        endNanos = System.nanoTime();
+    }
+
+    void recordProduced(long waitedNanos) {
+        produced.increment();
+        producerWaitNanos.add(waitedNanos);
+    }
+
+    // matches = how many consumers' preferences the product satisfied
+    void recordConsumed(long latencyNanos, int matches) {
+        consumed.increment();
+        matched.add(matches);
+        long micros = Math.max(1, latencyNanos / 1000);
+        latencyBuckets.incrementAndGet(Math.min(BUCKETS - 1, 63 - Long.numberOfLeadingZeros(micros)));
+    }
+
+    public long getProduced() {
+        return produced.sum();
+    }
+
+    public long getConsumed() {
+        return consumed.sum();
+    }
+
+    // Product/consumer pairs that matched, summed over all events
+    public long getMatched() {
+        return matched.sum();
+    }
+
+    public double getElapsedSeconds() {
+        long end = endNanos == 0 ? System.nanoTime() : endNanos;
+        return (end - startNanos) / 1e9;
+    }
+
+    public double getEventsPerSecond() {
+        return getConsumed() / Math.max(1e-9, getElapsedSeconds());
+    }
+
+    // Time producers spent blocked on a full queue (back-pressure)
+    public double getProducerWaitSeconds() {
+        return producerWaitNanos.sum() / 1e9;
+    }
+
+    // Upper bound (in microseconds) of the bucket holding the given percentile
+    public long getLatencyPercentileMicros(double percentile) {
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            total += latencyBuckets.get(i);
+        }
+        long rank = (long) Math.ceil(total * percentile / 100.0);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += latencyBuckets.get(i);
+            if (seen >= rank && seen > 0) {
+                return 1L << (i + 1);
+            }
+        }
+        return 0;
+    }
+
+    public void showMetrics() {
+        System.out.println("Produced      : " + getProduced());
+        System.out.println("Consumed      : " + getConsumed());
+        System.out.println("Matched       : " + getMatched() + " (product/consumer pairs)");
+        System.out.printf("Elapsed       : %.2f s%n", getElapsedSeconds());
+        System.out.printf("Throughput    : %.0f events/s (%.1f M/min)%n", getEventsPerSecond(), getEventsPerSecond() * 60 / 1e6);
+        System.out.printf("Producer wait : %.2f s (back-pressure)%n", getProducerWaitSeconds());
+        System.out.println("Latency p50   : <= " + getLatencyPercentileMicros(50) + " us");
+        System.out.println("Latency p99   : <= " + getLatencyPercentileMicros(99) + " us");
+    }
+}
@@ -0,0 +1,172 @@
+import java.util.Arrays;
+
+//Sorted list of product slots for one token, kept in blocks of at most BLOCK slots so an
+//insert or remove in the middle of a popular token only shifts one block, not the whole list
+class PostingList {
+    static final int BLOCK = 256;
+
+    private int[][] blocks = new int[1][];
+    private int[] counts = new int[1];
+    private int blockCount;
+    private int size;
+
+    int size() {
+        return size;
+    }
+
+    Cursor cursor() {
+        return new Cursor();
+    }
+
+    //Slots are handed out in increasing order, so adding a new product is usually an append
+    void add(int slot) {
+        if (blockCount == 0 || last(blockCount - 1) < slot) {
+            append(slot);
+            return;
+        }
+        int b = blockFor(slot);
+        int pos = Arrays.binarySearch(blocks[b], 0, counts[b], slot);
+        if (pos >= 0) {
+            return;
+        }
+        pos = -pos - 1;
+        if (counts[b] == BLOCK) {
+            split(b);
+            if (pos > counts[b]) {
+                pos -= counts[b];
+                b++;
+            }
+        }
+        int[] block = ensureRoom(b);
+        System.arraycopy(block, pos, block, pos + 1, counts[b] - pos);
+        block[pos] = slot;
+        counts[b]++;
+        size++;
+    }
+
+    void remove(int slot) {
+        if (blockCount == 0 || last(blockCount - 1) < slot) {
+            return;
+        }
+        int b = blockFor(slot);
+        int pos = Arrays.binarySearch(blocks[b], 0, counts[b], slot);
+        if (pos < 0) {
+            return;
+        }
+        System.arraycopy(blocks[b], pos + 1, blocks[b], pos, counts[b] - pos - 1);
+        counts[b]--;
+        size--;
+        if (counts[b] == 0) {
+            removeBlock(b);
+        } else if (b + 1 < blockCount && counts[b] + counts[b + 1] <= BLOCK / 2) {
+            mergeWithNext(b);
+        } else if (b > 0 && counts[b - 1] + counts[b] <= BLOCK / 2) {
+            mergeWithNext(b - 1);
+        }
+    }
+
+    boolean contains(int slot) {
+        if (blockCount == 0 || last(blockCount - 1) < slot) {
+            return false;
+        }
+        int b = blockFor(slot);
+        return Arrays.binarySearch(blocks[b], 0, counts[b], slot) >= 0;
+    }
+
+    //Walks the slots in increasing order; valid until the list is next changed
+    class Cursor {
+        private int block;
+        private int pos;
+
+        boolean hasNext() {
+            return block < blockCount;
+        }
+
+        int peek() {
+            return blocks[block][pos];
+        }
+
+        int next() {
+            int slot = blocks[block][pos];
+            if (++pos == counts[block]) {
+                block++;
+                pos = 0;
+            }
+            return slot;
+        }
+    }
+
+    private int last(int b) {
+        return blocks[b][counts[b] - 1];
+    }
+
+    //First block whose last slot is >= slot (callers check slot <= the overall last slot)
+    private int blockFor(int slot) {
+        int lo = 0;
+        int hi = blockCount - 1;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (last(mid) < slot) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    private void append(int slot) {
+        int b = blockCount - 1;
+        if (b < 0 || counts[b] == BLOCK) {
+            b = blockCount;
+            insertBlock(b, new int[b == 0 ? 4 : BLOCK]);
+        }
+        int[] block = ensureRoom(b);
+        block[counts[b]++] = slot;
+        size++;
+    }
+
+    //Small lists start with a short block; a block grows to BLOCK before it splits
+    private int[] ensureRoom(int b) {
+        if (counts[b] == blocks[b].length) {
+            blocks[b] = Arrays.copyOf(blocks[b], Math.min(BLOCK, counts[b] * 2));
+        }
+        return blocks[b];
+    }
+
+    private void split(int b) {
+        int half = counts[b] / 2;
+        int[] upper = new int[BLOCK];
+        System.arraycopy(blocks[b], half, upper, 0, counts[b] - half);
+        insertBlock(b + 1, upper);
+        counts[b + 1] = counts[b] - half;
+        counts[b] = half;
+    }
+
+    private void mergeWithNext(int b) {
+        int[] block = blocks[b].length >= counts[b] + counts[b + 1] ? blocks[b] : Arrays.copyOf(blocks[b], BLOCK);
+        System.arraycopy(blocks[b + 1], 0, block, counts[b], counts[b + 1]);
+        blocks[b] = block;
+        counts[b] += counts[b + 1];
+        removeBlock(b + 1);
+    }
+
+    private void insertBlock(int b, int[] block) {
+        if (blockCount == blocks.length) {
+            blocks = Arrays.copyOf(blocks, blockCount * 2);
+            counts = Arrays.copyOf(counts, blockCount * 2);
+        }
+        System.arraycopy(blocks, b, blocks, b + 1, blockCount - b);
+        System.arraycopy(counts, b, counts, b + 1, blockCount - b);
+        blocks[b] = block;
+        counts[b] = 0;
+        blockCount++;
+    }
+
+    private void removeBlock(int b) {
+        System.arraycopy(blocks, b + 1, blocks, b, blockCount - b - 1);
+        System.arraycopy(counts, b + 1, counts, b, blockCount - b - 1);
+        blockCount--;
+        blocks[blockCount] = null;
+    }
+}
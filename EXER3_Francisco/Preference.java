@@ -0,0 +1,78 @@
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+//A consumer's preference parsed once: the single matching rule shared by
+//MarketplacePipeline and ProductIndex
+public class Preference {
+    //Words in a preference that describe the eco filter rather than a keyword
+    private static final String ECO_PREFIX = "eco-friendly";
+    private static final List<String> STOP_WORDS = List.of("eco", "friendly", "product", "products");
+
+    private final boolean ecoOnly;
+    private final List<String> keywords;
+
+    private Preference(boolean ecoOnly, List<String> keywords) {
+        this.ecoOnly = ecoOnly;
+        this.keywords = keywords;
+    }
+
+    //"Eco-Friendly ..." requires the eco flag; every other word is a keyword
+    public static Preference parse(String preference) {
+        String text = preference == null ? "" : preference.toLowerCase();
+        ArrayList<String> keywords = new ArrayList<>();
+        for (String token : tokenize(text)) {
+            if (!STOP_WORDS.contains(token)) {
+                keywords.add(token);
+            }
+        }
+        return new Preference(text.startsWith(ECO_PREFIX), Collections.unmodifiableList(keywords));
+    }
+
+    public boolean isEcoOnly() {
+        return ecoOnly;
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    //Every keyword must appear in the product name or the producer's industry
+    public boolean matches(EcoSustainHub.Product product, String industry) {
+        if (ecoOnly && !product.isEcoFriendly()) {
+            return false;
+        }
+        if (keywords.isEmpty()) {
+            return true;
+        }
+        Set<String> words = tokenize(product.getProductName());
+        words.addAll(tokenize(industry));
+        return matches(product.isEcoFriendly(), words);
+    }
+
+    //Same rule for callers that have already tokenized name and industry together
+    public boolean matches(boolean ecoFriendly, Set<String> words) {
+        return (!ecoOnly || ecoFriendly) && words.containsAll(keywords);
+    }
+
+    //Lower-case words made of letters and digits
+    public static LinkedHashSet<String> tokenize(String text) {
+        LinkedHashSet<String> tokens = new LinkedHashSet<>();
+        if (text == null) {
+            return tokens;
+        }
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean letter = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (letter && start < 0) {
+                start = i;
+            } else if (!letter && start >= 0) {
+                tokens.add(text.substring(start, i).toLowerCase());
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+}
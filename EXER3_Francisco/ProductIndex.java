@@ -0,0 +1,210 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+public class ProductIndex {
+    private static final PostingList EMPTY = new PostingList();
+
+    private final ArrayList<EcoSustainHub.Product> products = new ArrayList<>(); //slot -> product
+    private final ArrayList<String> industries = new ArrayList<>();             //slot -> producer industry
+    private final BitSet ecoFriendly = new BitSet();
+    private final HashMap<String, PostingList> nameIndex = new HashMap<>();
+    private final HashMap<String, PostingList> industryIndex = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private int[] freeSlots = new int[16]; //slots left behind by remove(), reused by add()
+    private int freeCount;
+    private int liveCount;
+
+    public void add(EcoSustainHub.Product product, EcoSustainHub.Producer producer) {
+        lock.writeLock().lock();
+        try {
+            if (product.getIndex() != null) {
+                throw new IllegalStateException("Product " + product.getProductId() + " is already indexed.");
+            }
+            String industry = producer == null ? null : producer.getIndustry();
+            int slot;
+            if (freeCount > 0) {
+                slot = freeSlots[--freeCount];
+                products.set(slot, product);
+                industries.set(slot, industry);
+            } else {
+                slot = products.size();
+                products.add(product);
+                industries.add(industry);
+            }
+            product.attachIndex(this, slot);
+            ecoFriendly.set(slot, product.isEcoFriendly());
+            addTokens(nameIndex, product.getProductName(), slot);
+            addTokens(industryIndex, industry, slot);
+            liveCount++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(EcoSustainHub.Product product) {
+        lock.writeLock().lock();
+        try {
+            if (product.getIndex() != this) {
+                return;
+            }
+            int slot = product.getIndexSlot();
+            removeTokens(nameIndex, product.getProductName(), slot);
+            removeTokens(industryIndex, industries.get(slot), slot);
+            ecoFriendly.clear(slot);
+            products.set(slot, null);
+            industries.set(slot, null);
+            product.attachIndex(null, -1);
+            if (freeCount == freeSlots.length) {
+                freeSlots = Arrays.copyOf(freeSlots, freeCount * 2);
+            }
+            freeSlots[freeCount++] = slot;
+            liveCount--;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        return liveCount;
+    }
+
+    //Called by Product.setProductName: the old name is read and replaced under the write lock
+    void renameProduct(EcoSustainHub.Product product, String newName) {
+        lock.writeLock().lock();
+        try {
+            String oldName = product.getProductName();
+            product.assignProductName(newName);
+            if (product.getIndex() == this) {
+                int slot = product.getIndexSlot();
+                removeTokens(nameIndex, oldName, slot);
+                addTokens(nameIndex, newName, slot);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    //Called by Product.setEcoFriendly
+    void changeEcoFriendly(EcoSustainHub.Product product, boolean isEcoFriendly) {
+        lock.writeLock().lock();
+        try {
+            product.assignEcoFriendly(isEcoFriendly);
+            if (product.getIndex() == this) {
+                ecoFriendly.set(product.getIndexSlot(), isEcoFriendly);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    //Products matching the consumer's preference, by the rule in Preference
+    public List<EcoSustainHub.Product> findMatches(EcoSustainHub.Consumer consumer, int limit) {
+        Preference preference = Preference.parse(consumer.getPreference());
+        return query(preference.isEcoOnly(), preference.getKeywords(), limit);
+    }
+
+    public List<EcoSustainHub.Product> query(boolean ecoOnly, List<String> keywords, int limit) {
+        lock.readLock().lock();
+        try {
+            ArrayList<EcoSustainHub.Product> result = new ArrayList<>();
+            if (keywords.isEmpty()) {
+                //Only the eco flag (or nothing) to filter on
+                for (int slot = 0; slot < products.size() && result.size() < limit; slot++) {
+                    slot = ecoOnly ? ecoFriendly.nextSetBit(slot) : slot;
+                    if (slot < 0) {
+                        break;
+                    }
+                    if (products.get(slot) != null) {
+                        result.add(products.get(slot));
+                    }
+                }
+                return result;
+            }
+
+            //Drive the search from the rarest keyword and probe the others by binary search
+            PostingList[][] lists = new PostingList[keywords.size()][];
+            int driver = 0;
+            long driverSize = Long.MAX_VALUE;
+            for (int k = 0; k < keywords.size(); k++) {
+                String token = keywords.get(k).toLowerCase();
+                lists[k] = new PostingList[] {nameIndex.get(token), industryIndex.get(token)};
+                long size = sizeOf(lists[k][0]) + sizeOf(lists[k][1]);
+                if (size == 0) {
+                    return result;
+                }
+                if (size < driverSize) {
+                    driverSize = size;
+                    driver = k;
+                }
+            }
+
+            PostingList.Cursor a = cursorOf(lists[driver][0]);
+            PostingList.Cursor b = cursorOf(lists[driver][1]);
+            while ((a.hasNext() || b.hasNext()) && result.size() < limit) {
+                //Merge both sorted lists so each slot is visited once
+                int slot;
+                if (!b.hasNext() || (a.hasNext() && a.peek() < b.peek())) {
+                    slot = a.next();
+                } else if (!a.hasNext() || b.peek() < a.peek()) {
+                    slot = b.next();
+                } else {
+                    slot = a.next();
+                    b.next();
+                }
+                if (ecoOnly && !ecoFriendly.get(slot)) {
+                    continue;
+                }
+                if (matchesAll(lists, driver, slot)) {
+                    result.add(products.get(slot));
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static boolean matchesAll(PostingList[][] lists, int skip, int slot) {
+        for (int k = 0; k < lists.length; k++) {
+            if (k == skip) {
+                continue;
+            }
+            PostingList name = lists[k][0];
+            PostingList industry = lists[k][1];
+            if (!(name != null && name.contains(slot)) && !(industry != null && industry.contains(slot))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int sizeOf(PostingList list) {
+        return list == null ? 0 : list.size();
+    }
+
+    private static PostingList.Cursor cursorOf(PostingList list) {
+        return (list == null ? EMPTY : list).cursor();
+    }
+
+    private static void addTokens(HashMap<String, PostingList> index, String text, int slot) {
+        for (String token : Preference.tokenize(text)) {
+            index.computeIfAbsent(token, t -> new PostingList()).add(slot);
+        }
+    }
+
+    private static void removeTokens(HashMap<String, PostingList> index, String text, int slot) {
+        for (String token : Preference.tokenize(text)) {
+            PostingList list = index.get(token);
+            if (list != null) {
+                list.remove(slot);
+                if (list.size() == 0) {
+                    index.remove(token);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,163 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+public class ProductIndexBenchmark {
+    private static final String[] ADJECTIVES = {"Reusable", "Organic", "Bamboo", "Solar", "Recycled", "Compostable", "Plastic", "Steel"};
+    private static final String[] NOUNS = {"Bag", "Bottle", "Chair", "Lamp", "Straw", "Cup", "Table", "Panel", "Toothbrush", "Notebook"};
+
+    //The default 10M products need a heap of about 4 GB: java -Xmx4g ProductIndexBenchmark
+    public static void main(String[] args) {
+        int productCount = args.length > 0 ? Integer.parseInt(args[0]) : 10_000_000;
+        int queries = 1000;
+        int scans = 5;
+        Random random = new Random(42);
+
+        List<EcoSustainHub.Producer> producers = new ArrayList<>();
+        producers.add(new EcoSustainHub.Producer(1, "Green Farms", "Organic Agriculture"));
+        producers.add(new EcoSustainHub.Producer(2, "Bamboo Works", "Sustainable Furniture"));
+        producers.add(new EcoSustainHub.Producer(3, "SolarPH", "Renewable Energy"));
+        producers.add(new EcoSustainHub.Producer(4, "PlastiCo", "Packaging"));
+
+        ArrayList<EcoSustainHub.Product> catalog = new ArrayList<>(productCount);
+        ArrayList<EcoSustainHub.Producer> owners = new ArrayList<>(productCount);
+        for (int i = 0; i < productCount; i++) {
+            //Model numbers repeat so the name dictionary stays bounded at 10M products
+            String name = ADJECTIVES[random.nextInt(ADJECTIVES.length)] + " " + NOUNS[random.nextInt(NOUNS.length)] + " " + (i % 10_000);
+            catalog.add(new EcoSustainHub.Product(i, name, random.nextInt(4) != 0));
+            owners.add(producers.get(random.nextInt(producers.size())));
+        }
+
+        long start = System.nanoTime();
+        ProductIndex index = new ProductIndex();
+        for (int i = 0; i < productCount; i++) {
+            index.add(catalog.get(i), owners.get(i));
+        }
+        System.out.printf("Indexed %d products in %.1f ms%n%n", productCount, (System.nanoTime() - start) / 1e6);
+
+        EcoSustainHub.Consumer[] consumers = {
+            new EcoSustainHub.Consumer(201, "Juan Tamad", "Eco-Friendly Products"),
+            new EcoSustainHub.Consumer(202, "Maria Clara", "Bamboo Chair"),
+            new EcoSustainHub.Consumer(203, "Jose Rizal", "Eco-Friendly Solar Lamp 777"),
+            new EcoSustainHub.Consumer(204, "Andres B.", "Furniture Table"),
+        };
+
+        for (EcoSustainHub.Consumer consumer : consumers) {
+            int found = 0;
+            start = System.nanoTime();
+            for (int q = 0; q < queries; q++) {
+                found = index.findMatches(consumer, 100).size();
+            }
+            double indexMicros = (System.nanoTime() - start) / 1e3 / queries;
+
+            int scanned = 0;
+            start = System.nanoTime();
+            for (int s = 0; s < scans; s++) {
+                scanned = linearScan(catalog, owners, consumer, 100);
+            }
+            double scanMicros = (System.nanoTime() - start) / 1e3 / scans;
+
+            System.out.printf("%-30s index %8.1f us  linear scan %10.1f us  (%d / %d matches)%n",
+                    "\"" + consumer.getPreference() + "\"", indexMicros, scanMicros, found, scanned);
+        }
+
+        //Incremental update through the setters
+        EcoSustainHub.Product renamed = catalog.get(0);
+        renamed.setProductName("Bamboo Chair Deluxe");
+        renamed.setEcoFriendly(true);
+        System.out.println();
+        System.out.println("After rename, \"Deluxe\" matches: " + index.query(true, List.of("deluxe"), 10).size());
+
+        //Re-indexing products under a high-frequency token: each rename takes the slot out of the
+        //"organic" list and puts it back, in the middle of a list of about 1/8 of the catalog
+        int updates = 20_000;
+        ArrayList<EcoSustainHub.Product> organic = new ArrayList<>();
+        int hotSize = 0;
+        for (EcoSustainHub.Product product : catalog) {
+            hotSize += product.getProductName().startsWith("Organic ") ? 1 : 0;
+        }
+        for (int i = 2; i < productCount && organic.size() < updates; i += 1 + random.nextInt(Math.max(1, productCount / updates / 4))) {
+            if (catalog.get(i).getProductName().startsWith("Organic ")) {
+                organic.add(catalog.get(i));
+            }
+        }
+        int before = index.query(false, List.of("organic"), Integer.MAX_VALUE).size();
+        start = System.nanoTime();
+        for (EcoSustainHub.Product product : organic) {
+            String name = product.getProductName();
+            product.setProductName("Steel" + name.substring("Organic".length()));
+            product.setProductName(name);
+        }
+        double blockedMicros = (System.nanoTime() - start) / 1e3 / organic.size();
+        double flatMicros = flatArrayUpdates(hotSize, organic.size(), random);
+        System.out.printf("Hot token (%d slots): %.2f us per remove + re-add through the index, "
+                + "%.2f us for the same pair on one flat array, matches unchanged: %b%n", hotSize, blockedMicros, flatMicros,
+                index.query(false, List.of("organic"), Integer.MAX_VALUE).size() == before);
+
+        //A removed product's slot is handed to the next product added
+        EcoSustainHub.Product removed = catalog.get(1);
+        int freedSlot = removed.getIndexSlot();
+        index.remove(removed);
+        EcoSustainHub.Product added = new EcoSustainHub.Product(productCount, "Solar Lamp Replacement", true);
+        index.add(added, producers.get(2));
+        System.out.println("Freed slot reused: " + (added.getIndexSlot() == freedSlot) + ", indexed products: " + index.size());
+    }
+
+    //The layout PostingList had before it was blocked: one sorted array shifted on every update
+    private static double flatArrayUpdates(int size, int updates, Random random) {
+        int[] slots = new int[size + 1];
+        for (int i = 0; i < size; i++) {
+            slots[i] = i * 8;
+        }
+        long start = System.nanoTime();
+        for (int u = 0; u < updates; u++) {
+            int pos = random.nextInt(size);
+            int slot = slots[pos];
+            System.arraycopy(slots, pos + 1, slots, pos, size - pos - 1);
+            pos = -Arrays.binarySearch(slots, 0, size - 1, slot) - 1;
+            System.arraycopy(slots, pos, slots, pos + 1, size - 1 - pos);
+            slots[pos] = slot;
+        }
+        return (System.nanoTime() - start) / 1e3 / updates;
+    }
+
+    //Same rule as ProductIndex.findMatches (Preference), checked product by product without allocating
+    private static int linearScan(List<EcoSustainHub.Product> catalog, List<EcoSustainHub.Producer> owners,
+                                  EcoSustainHub.Consumer consumer, int limit) {
+        Preference preference = Preference.parse(consumer.getPreference());
+        List<String> keywords = preference.getKeywords();
+        int found = 0;
+        for (int i = 0; i < catalog.size() && found < limit; i++) {
+            EcoSustainHub.Product product = catalog.get(i);
+            if (preference.isEcoOnly() && !product.isEcoFriendly()) {
+                continue;
+            }
+            boolean all = true;
+            for (int k = 0; k < keywords.size() && all; k++) {
+                String keyword = keywords.get(k);
+                all = containsWord(product.getProductName(), keyword) || containsWord(owners.get(i).getIndustry(), keyword);
+            }
+            if (all) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    //True if word (lower case) appears in text as a whole letter-or-digit token, ignoring case
+    private static boolean containsWord(String text, String word) {
+        if (text == null) {
+            return false;
+        }
+        int last = text.length() - word.length();
+        for (int i = 0; i <= last; i++) {
+            if (text.regionMatches(true, i, word, 0, word.length())
+                    && (i == 0 || !Character.isLetterOrDigit(text.charAt(i - 1)))
+                    && (i == last || !Character.isLetterOrDigit(text.charAt(i + word.length())))) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,84 @@
+import java.util.HashMap;
+import java.util.Random;
+
+public class RegistryBenchmark {
+    public static void main(String[] args) {
+        int[] sizes = args.length > 0 ? parseSizes(args) : new int[] {1_000_000, 50_000_000};
+        for (int size : sizes) {
+            run(size);
+        }
+    }
+
+    private static void run(int size) {
+        System.out.println("--- " + size + " producers ---");
+        int lookups = 5_000_000;
+        int[] probes = new int[lookups];
+        Random random = new Random(42);
+        for (int i = 0; i < lookups; i++) {
+            probes[i] = random.nextInt(size) * 7; //ids are spread out, not 0..n-1
+        }
+
+        //The Producer objects are shared, so only the map's own overhead is measured
+        EcoSustainHub.Producer[] producers = new EcoSustainHub.Producer[size];
+        for (int i = 0; i < size; i++) {
+            producers[i] = new EcoSustainHub.Producer(i * 7, "Producer", "Industry");
+        }
+
+        try {
+            long before = usedHeap();
+            HashMap<Integer, EcoSustainHub.Producer> boxed = new HashMap<>();
+            for (EcoSustainHub.Producer p : producers) {
+                boxed.put(p.getProducerId(), p);
+            }
+            long bytes = usedHeap() - before;
+            long start = System.nanoTime();
+            long hits = 0;
+            for (int id : probes) {
+                if (boxed.get(id) != null) {
+                    hits++;
+                }
+            }
+            report("HashMap<Integer, Producer>", bytes, size, System.nanoTime() - start, lookups, hits);
+            boxed = null;
+        } catch (OutOfMemoryError e) {
+            System.out.println("HashMap<Integer, Producer>   out of memory at this size");
+        }
+
+        long before = usedHeap();
+        EntityRegistry registry = new EntityRegistry(size, 16, 16);
+        for (EcoSustainHub.Producer p : producers) {
+            registry.register(p);
+        }
+        long bytes = usedHeap() - before;
+        long start = System.nanoTime();
+        long hits = 0;
+        for (int id : probes) {
+            if (registry.getProducer(id) != null) {
+                hits++;
+            }
+        }
+        report("EntityRegistry (IntObjectMap)", bytes, size, System.nanoTime() - start, lookups, hits);
+        System.out.println();
+    }
+
+    private static void report(String label, long bytes, int entries, long nanos, int lookups, long hits) {
+        System.out.printf("%-30s %6.1f bytes/entry  %6.1f ns/lookup  (%d hits)%n",
+                label, (double) bytes / entries, (double) nanos / lookups, hits);
+    }
+
+    private static long usedHeap() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static int[] parseSizes(String[] args) {
+        int[] sizes = new int[args.length];
+        for (int i = 0; i < args.length; i++) {
+            sizes[i] = Integer.parseInt(args[i]);
+        }
+        return sizes;
+    }
+}